@@ -17,6 +17,7 @@ dependencies {
     implementation(libs.spring.boot.starter.web)
     implementation(libs.spring.boot.starter.validation)
     implementation(libs.spring.boot.starter.data.redis)
+    implementation(libs.caffeine)
 
     // Kafka
     implementation(libs.spring.kafka)
@@ -38,6 +39,7 @@ dependencies {
 
     // Testing
     testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.grpc.inprocess)
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
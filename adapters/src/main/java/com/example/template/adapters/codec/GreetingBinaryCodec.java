@@ -0,0 +1,114 @@
+package com.example.template.adapters.codec;
+
+import com.example.template.domain.Greeting;
+import com.example.template.domain.events.GreetingCreatedEvent;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Fixed binary layout for greetings and greeting events.
+ *
+ * <pre>
+ * Greeting:             version(1) id(16) messageLength(4) message(UTF-8)
+ * GreetingCreatedEvent: version(1) eventId(16) greetingId(16) createdAtEpochNanos(8)
+ *                       messageLength(4) message(UTF-8)
+ * </pre>
+ *
+ * <p>The leading version byte never collides with the first byte of a JSON document, which lets
+ * readers accept both formats while writers are migrated.
+ */
+public final class GreetingBinaryCodec {
+  public static final byte FORMAT_VERSION = 1;
+
+  private static final int UUID_BYTES = 2 * Long.BYTES;
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private GreetingBinaryCodec() {}
+
+  public static boolean isBinary(byte[] data) {
+    return data != null && data.length > 0 && data[0] == FORMAT_VERSION;
+  }
+
+  public static byte[] encodeGreeting(Greeting greeting) {
+    byte[] message = greeting.message().getBytes(StandardCharsets.UTF_8);
+    var buffer = ByteBuffer.allocate(1 + UUID_BYTES + Integer.BYTES + message.length);
+    buffer.put(FORMAT_VERSION);
+    putUuid(buffer, greeting.id());
+    buffer.putInt(message.length);
+    buffer.put(message);
+    return buffer.array();
+  }
+
+  public static Greeting decodeGreeting(byte[] data) {
+    var buffer = versionedBuffer(data);
+    try {
+      var id = getUuid(buffer);
+      var message = getString(buffer);
+      return new Greeting(id, message);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated greeting payload", e);
+    }
+  }
+
+  public static byte[] encodeEvent(GreetingCreatedEvent event) {
+    byte[] message = event.message().getBytes(StandardCharsets.UTF_8);
+    var buffer =
+        ByteBuffer.allocate(1 + 2 * UUID_BYTES + Long.BYTES + Integer.BYTES + message.length);
+    buffer.put(FORMAT_VERSION);
+    putUuid(buffer, event.eventId());
+    putUuid(buffer, event.greetingId());
+    buffer.putLong(toEpochNanos(event.createdAt()));
+    buffer.putInt(message.length);
+    buffer.put(message);
+    return buffer.array();
+  }
+
+  public static GreetingCreatedEvent decodeEvent(byte[] data) {
+    var buffer = versionedBuffer(data);
+    try {
+      var eventId = getUuid(buffer);
+      var greetingId = getUuid(buffer);
+      var createdAt = Instant.ofEpochSecond(0, buffer.getLong());
+      var message = getString(buffer);
+      return new GreetingCreatedEvent(eventId, greetingId, message, createdAt);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated greeting event payload", e);
+    }
+  }
+
+  private static ByteBuffer versionedBuffer(byte[] data) {
+    if (!isBinary(data)) {
+      throw new IllegalArgumentException("Unsupported binary format version");
+    }
+    var buffer = ByteBuffer.wrap(data);
+    buffer.get();
+    return buffer;
+  }
+
+  private static long toEpochNanos(Instant instant) {
+    return Math.addExact(
+        Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+  }
+
+  private static void putUuid(ByteBuffer buffer, UUID uuid) {
+    buffer.putLong(uuid.getMostSignificantBits());
+    buffer.putLong(uuid.getLeastSignificantBits());
+  }
+
+  private static UUID getUuid(ByteBuffer buffer) {
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+
+  private static String getString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IllegalArgumentException("Invalid string length " + length);
+    }
+    var value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+    buffer.position(buffer.position() + length);
+    return value;
+  }
+}
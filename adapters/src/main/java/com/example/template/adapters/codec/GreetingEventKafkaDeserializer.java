@@ -0,0 +1,53 @@
+package com.example.template.adapters.codec;
+
+import com.example.template.domain.events.GreetingCreatedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+/** Reads events written in either the binary layout or the legacy JSON format. */
+public class GreetingEventKafkaDeserializer implements Deserializer<GreetingCreatedEvent> {
+
+  private final JsonDeserializer<GreetingCreatedEvent> jsonDeserializer;
+
+  public GreetingEventKafkaDeserializer() {
+    this.jsonDeserializer = new JsonDeserializer<>(GreetingCreatedEvent.class);
+    this.jsonDeserializer.addTrustedPackages("com.example.template.domain.events");
+  }
+
+  @Override
+  public GreetingCreatedEvent deserialize(String topic, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    if (!GreetingBinaryCodec.isBinary(data)) {
+      return jsonDeserializer.deserialize(topic, data);
+    }
+    return decode(data);
+  }
+
+  @Override
+  public GreetingCreatedEvent deserialize(String topic, Headers headers, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    if (!GreetingBinaryCodec.isBinary(data)) {
+      return jsonDeserializer.deserialize(topic, headers, data);
+    }
+    return decode(data);
+  }
+
+  @Override
+  public void close() {
+    jsonDeserializer.close();
+  }
+
+  private static GreetingCreatedEvent decode(byte[] data) {
+    try {
+      return GreetingBinaryCodec.decodeEvent(data);
+    } catch (IllegalArgumentException e) {
+      throw new SerializationException("Cannot decode greeting event", e);
+    }
+  }
+}
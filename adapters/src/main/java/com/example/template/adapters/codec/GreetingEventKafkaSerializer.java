@@ -0,0 +1,15 @@
+package com.example.template.adapters.codec;
+
+import com.example.template.domain.events.GreetingCreatedEvent;
+import org.apache.kafka.common.serialization.Serializer;
+
+public class GreetingEventKafkaSerializer implements Serializer<GreetingCreatedEvent> {
+
+  @Override
+  public byte[] serialize(String topic, GreetingCreatedEvent event) {
+    if (event == null) {
+      return null;
+    }
+    return GreetingBinaryCodec.encodeEvent(event);
+  }
+}
@@ -0,0 +1,42 @@
+package com.example.template.adapters.codec;
+
+import com.example.template.domain.Greeting;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import java.nio.ByteBuffer;
+
+/**
+ * Lettuce codec with UTF-8 string keys and greeting values encoded by {@link
+ * GreetingRedisSerializer}, so values are interchangeable with the ones written by the template.
+ */
+public class GreetingRedisCodec implements RedisCodec<String, Greeting> {
+
+  private final GreetingRedisSerializer serializer;
+
+  public GreetingRedisCodec(WireFormat writeFormat) {
+    this.serializer = new GreetingRedisSerializer(writeFormat);
+  }
+
+  @Override
+  public String decodeKey(ByteBuffer bytes) {
+    return StringCodec.UTF8.decodeKey(bytes);
+  }
+
+  @Override
+  public Greeting decodeValue(ByteBuffer bytes) {
+    var data = new byte[bytes.remaining()];
+    bytes.get(data);
+    return serializer.deserialize(data);
+  }
+
+  @Override
+  public ByteBuffer encodeKey(String key) {
+    return StringCodec.UTF8.encodeKey(key);
+  }
+
+  @Override
+  public ByteBuffer encodeValue(Greeting greeting) {
+    var data = serializer.serialize(greeting);
+    return ByteBuffer.wrap(data == null ? new byte[0] : data);
+  }
+}
@@ -0,0 +1,49 @@
+package com.example.template.adapters.codec;
+
+import com.example.template.domain.Greeting;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/** Writes greetings in the configured {@link WireFormat} and reads values in either format. */
+public class GreetingRedisSerializer implements RedisSerializer<Greeting> {
+
+  private final WireFormat writeFormat;
+  private final Jackson2JsonRedisSerializer<Greeting> jsonSerializer =
+      new Jackson2JsonRedisSerializer<>(Greeting.class);
+
+  public GreetingRedisSerializer(WireFormat writeFormat) {
+    this.writeFormat = writeFormat;
+  }
+
+  @Override
+  public byte[] serialize(Greeting greeting) {
+    if (greeting == null) {
+      return null;
+    }
+    if (writeFormat == WireFormat.JSON) {
+      return jsonSerializer.serialize(greeting);
+    }
+    return GreetingBinaryCodec.encodeGreeting(greeting);
+  }
+
+  @Override
+  public Greeting deserialize(byte[] data) {
+    if (data == null || data.length == 0) {
+      return null;
+    }
+    if (!GreetingBinaryCodec.isBinary(data)) {
+      return jsonSerializer.deserialize(data);
+    }
+    try {
+      return GreetingBinaryCodec.decodeGreeting(data);
+    } catch (IllegalArgumentException e) {
+      throw new SerializationException("Cannot decode greeting", e);
+    }
+  }
+
+  @Override
+  public Class<?> getTargetType() {
+    return Greeting.class;
+  }
+}
@@ -0,0 +1,7 @@
+package com.example.template.adapters.codec;
+
+/** Format used when writing greetings and events. Readers always accept both. */
+public enum WireFormat {
+  JSON,
+  BINARY
+}
@@ -0,0 +1,77 @@
+package com.example.template.adapters.in.grpc;
+
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+/**
+ * Runs {@code cleanup} after each callback of a call, on the thread that ran it. The callbacks of
+ * one call may run on different executor threads, so thread-bound state set while handling one
+ * callback is dropped before the thread serves another call.
+ */
+public class CallCleanupServerInterceptor implements ServerInterceptor {
+  private final Runnable cleanup;
+
+  public CallCleanupServerInterceptor(Runnable cleanup) {
+    this.cleanup = cleanup;
+  }
+
+  @Override
+  public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+      ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+    ServerCall.Listener<ReqT> listener;
+    try {
+      listener = next.startCall(call, headers);
+    } finally {
+      cleanup.run();
+    }
+    return new SimpleForwardingServerCallListener<>(listener) {
+      @Override
+      public void onMessage(ReqT message) {
+        try {
+          super.onMessage(message);
+        } finally {
+          cleanup.run();
+        }
+      }
+
+      @Override
+      public void onHalfClose() {
+        try {
+          super.onHalfClose();
+        } finally {
+          cleanup.run();
+        }
+      }
+
+      @Override
+      public void onCancel() {
+        try {
+          super.onCancel();
+        } finally {
+          cleanup.run();
+        }
+      }
+
+      @Override
+      public void onComplete() {
+        try {
+          super.onComplete();
+        } finally {
+          cleanup.run();
+        }
+      }
+
+      @Override
+      public void onReady() {
+        try {
+          super.onReady();
+        } finally {
+          cleanup.run();
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,33 @@
+package com.example.template.adapters.in.grpc;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Compresses the responses of selected methods, given by full method name such as {@code
+ * com.example.template.grpc.GreetingService/StreamGreetings}. gRPC falls back to no compression for
+ * clients that do not accept the encoding. Other methods are left alone, as small unary responses
+ * cost more CPU to compress than they save on the wire.
+ */
+public class CompressionServerInterceptor implements ServerInterceptor {
+  private final Set<String> methods;
+  private final String compression;
+
+  public CompressionServerInterceptor(Collection<String> methods, String compression) {
+    this.methods = Set.copyOf(methods);
+    this.compression = compression;
+  }
+
+  @Override
+  public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+      ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+    if (methods.contains(call.getMethodDescriptor().getFullMethodName())) {
+      call.setCompression(compression);
+    }
+    return next.startCall(call, headers);
+  }
+}
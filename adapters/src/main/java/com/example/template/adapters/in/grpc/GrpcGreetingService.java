@@ -1,12 +1,22 @@
 package com.example.template.adapters.in.grpc;
 
+import com.example.template.adapters.grpc.generated.BatchGetGreetingsRequest;
+import com.example.template.adapters.grpc.generated.BatchGetGreetingsResponse;
 import com.example.template.adapters.grpc.generated.CreateGreetingRequest;
+import com.example.template.adapters.grpc.generated.CreateGreetingsResponse;
 import com.example.template.adapters.grpc.generated.GetGreetingRequest;
 import com.example.template.adapters.grpc.generated.GreetingResponse;
 import com.example.template.adapters.grpc.generated.GreetingServiceGrpc;
+import com.example.template.adapters.grpc.generated.StreamGreetingsRequest;
+import com.example.template.domain.Greeting;
 import com.example.template.domain.services.GreetingService;
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.UUID;
 import net.devh.boot.grpc.server.service.GrpcService;
 import org.slf4j.Logger;
@@ -16,6 +26,10 @@ import org.slf4j.LoggerFactory;
 public class GrpcGreetingService extends GreetingServiceGrpc.GreetingServiceImplBase {
 
   private static final Logger logger = LoggerFactory.getLogger(GrpcGreetingService.class);
+  private static final int MAX_BATCH_SIZE = 500;
+  private static final int CREATE_BATCH_SIZE = 500;
+  private static final int DEFAULT_PAGE_SIZE = 500;
+  private static final int MAX_PAGE_SIZE = 5_000;
 
   private final GreetingService greetingService;
 
@@ -85,4 +99,203 @@ public class GrpcGreetingService extends GreetingServiceGrpc.GreetingServiceImpl
               .asRuntimeException());
     }
   }
+
+  @Override
+  public void batchGetGreetings(
+      BatchGetGreetingsRequest request,
+      StreamObserver<BatchGetGreetingsResponse> responseObserver) {
+    logger.debug("gRPC batchGetGreetings called with {} ids", request.getIdsCount());
+    if (request.getIdsCount() > MAX_BATCH_SIZE) {
+      responseObserver.onError(
+          Status.INVALID_ARGUMENT
+              .withDescription("At most " + MAX_BATCH_SIZE + " ids may be requested at once")
+              .asRuntimeException());
+      return;
+    }
+
+    var ids = new ArrayList<UUID>(request.getIdsCount());
+    for (var id : request.getIdsList()) {
+      try {
+        ids.add(UUID.fromString(id));
+      } catch (IllegalArgumentException e) {
+        responseObserver.onError(
+            Status.INVALID_ARGUMENT
+                .withDescription("Invalid UUID format: " + id)
+                .asRuntimeException());
+        return;
+      }
+    }
+
+    try {
+      var response = BatchGetGreetingsResponse.newBuilder();
+      for (var greeting : greetingService.getGreetings(ids)) {
+        response.addGreetings(
+            GreetingResponse.newBuilder()
+                .setId(greeting.id().toString())
+                .setMessage(greeting.message()));
+      }
+      responseObserver.onNext(response.build());
+      responseObserver.onCompleted();
+    } catch (Exception e) {
+      logger.error("Error getting greetings via gRPC", e);
+      responseObserver.onError(
+          Status.INTERNAL
+              .withDescription("Failed to get greetings: " + e.getMessage())
+              .asRuntimeException());
+    }
+  }
+
+  @Override
+  public StreamObserver<CreateGreetingRequest> createGreetings(
+      StreamObserver<CreateGreetingsResponse> responseObserver) {
+    logger.debug("gRPC createGreetings stream opened");
+    return new StreamObserver<>() {
+      private final List<String> pending = new ArrayList<>(CREATE_BATCH_SIZE);
+      private int created;
+      private boolean failed;
+
+      @Override
+      public void onNext(CreateGreetingRequest request) {
+        if (failed) {
+          return;
+        }
+        pending.add(request.getName());
+        if (pending.size() >= CREATE_BATCH_SIZE) {
+          flush();
+        }
+      }
+
+      @Override
+      public void onError(Throwable t) {
+        // Batches flushed so far stay committed; the partial batch is dropped.
+        logger.warn(
+            "gRPC createGreetings aborted by client after {} greetings: {}",
+            created,
+            t.getMessage());
+      }
+
+      @Override
+      public void onCompleted() {
+        flush();
+        if (failed) {
+          return;
+        }
+        responseObserver.onNext(
+            CreateGreetingsResponse.newBuilder().setCreatedCount(created).build());
+        responseObserver.onCompleted();
+        logger.info("gRPC createGreetings completed created={}", created);
+      }
+
+      private void flush() {
+        if (failed || pending.isEmpty()) {
+          return;
+        }
+        try {
+          created += greetingService.createGreetings(List.copyOf(pending)).size();
+          pending.clear();
+        } catch (Exception e) {
+          failed = true;
+          logger.error("Error creating greetings via gRPC after {} greetings", created, e);
+          responseObserver.onError(
+              Status.INTERNAL
+                  .withDescription(
+                      "Failed to create greetings after " + created + ": " + e.getMessage())
+                  .asRuntimeException());
+        }
+      }
+    };
+  }
+
+  @Override
+  public void streamGreetings(
+      StreamGreetingsRequest request, StreamObserver<GreetingResponse> responseObserver) {
+    int pageSize =
+        request.getPageSize() <= 0
+            ? DEFAULT_PAGE_SIZE
+            : Math.min(request.getPageSize(), MAX_PAGE_SIZE);
+    UUID afterId;
+    try {
+      afterId = request.getAfterId().isEmpty() ? null : UUID.fromString(request.getAfterId());
+    } catch (IllegalArgumentException e) {
+      responseObserver.onError(
+          Status.INVALID_ARGUMENT
+              .withDescription("Invalid UUID format: " + request.getAfterId())
+              .asRuntimeException());
+      return;
+    }
+    logger.debug("gRPC streamGreetings called afterId={} pageSize={}", afterId, pageSize);
+
+    var call = (ServerCallStreamObserver<GreetingResponse>) responseObserver;
+    var streamer = new GreetingStreamer(call, afterId, pageSize);
+    call.setOnCancelHandler(streamer::cancel);
+    call.setOnReadyHandler(streamer);
+    streamer.run();
+  }
+
+  private static GreetingResponse toResponse(Greeting greeting) {
+    return GreetingResponse.newBuilder()
+        .setId(greeting.id().toString())
+        .setMessage(greeting.message())
+        .build();
+  }
+
+  /**
+   * Sends greetings only while the transport is ready and resumes from the on-ready handler, so at
+   * most one page is held in memory however large the table is. gRPC runs the handlers for one call
+   * serially, so no locking is needed.
+   */
+  private final class GreetingStreamer implements Runnable {
+    private final ServerCallStreamObserver<GreetingResponse> call;
+    private final int pageSize;
+    private final Deque<Greeting> page = new ArrayDeque<>();
+    private UUID afterId;
+    private boolean lastPage;
+    private volatile boolean done;
+
+    GreetingStreamer(ServerCallStreamObserver<GreetingResponse> call, UUID afterId, int pageSize) {
+      this.call = call;
+      this.afterId = afterId;
+      this.pageSize = pageSize;
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (!done && call.isReady()) {
+          if (page.isEmpty() && !fetchNextPage()) {
+            done = true;
+            call.onCompleted();
+            return;
+          }
+          call.onNext(toResponse(page.poll()));
+        }
+      } catch (Exception e) {
+        done = true;
+        logger.error("Error streaming greetings via gRPC afterId={}", afterId, e);
+        call.onError(
+            Status.INTERNAL
+                .withDescription("Failed to stream greetings: " + e.getMessage())
+                .asRuntimeException());
+      }
+    }
+
+    void cancel() {
+      done = true;
+      logger.debug("gRPC streamGreetings cancelled by client afterId={}", afterId);
+    }
+
+    private boolean fetchNextPage() {
+      if (lastPage) {
+        return false;
+      }
+      var next = greetingService.getGreetingsAfter(afterId, pageSize);
+      lastPage = next.size() < pageSize;
+      if (next.isEmpty()) {
+        return false;
+      }
+      page.addAll(next);
+      afterId = next.getLast().id();
+      return true;
+    }
+  }
 }
@@ -0,0 +1,215 @@
+package com.example.template.adapters.in.grpc;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records duration by status, request and response message sizes, and in-flight calls per gRPC
+ * method.
+ *
+ * <p>Meters for the methods of the given services are registered up front, and each per-status
+ * timer is registered once, on the first call that ends with that status. After that a call only
+ * looks up its method in an immutable map and allocates the call and listener wrappers the
+ * interceptor API requires: no meter builders, tags or registry lookups. Methods of services not
+ * passed in, such as health or reflection, get their meters on first use.
+ */
+public class MetricsServerInterceptor implements ServerInterceptor {
+  private static final Logger logger = LoggerFactory.getLogger(MetricsServerInterceptor.class);
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, MethodMeters> methods;
+  private final ConcurrentMap<String, MethodMeters> otherMethods = new ConcurrentHashMap<>();
+
+  public MetricsServerInterceptor(
+      MeterRegistry meterRegistry, Collection<ServiceDescriptor> services) {
+    this.meterRegistry = meterRegistry;
+    var byName = new HashMap<String, MethodMeters>();
+    for (var service : services) {
+      for (var method : service.getMethods()) {
+        var name = method.getFullMethodName();
+        byName.put(name, new MethodMeters(name, meterRegistry));
+      }
+    }
+    this.methods = Map.copyOf(byName);
+  }
+
+  @Override
+  public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+      ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+    var meters = metersFor(call.getMethodDescriptor().getFullMethodName());
+    logger.debug("gRPC server call started method={}", meters.method);
+
+    var meteredCall = new MeteredCall<>(call, meters);
+    ServerCall.Listener<ReqT> listener;
+    try {
+      listener = next.startCall(meteredCall, headers);
+    } catch (RuntimeException e) {
+      meteredCall.finish();
+      throw e;
+    }
+    return new MeteredListener<>(listener, meteredCall);
+  }
+
+  private MethodMeters metersFor(String method) {
+    var meters = methods.get(method);
+    if (meters != null) {
+      return meters;
+    }
+    return otherMethods.computeIfAbsent(method, name -> new MethodMeters(name, meterRegistry));
+  }
+
+  private static int sizeOf(Object message) {
+    // Protobuf memoizes the serialized size, so this does not serialize the message again.
+    return message instanceof MessageLite lite ? lite.getSerializedSize() : -1;
+  }
+
+  private static final class MethodMeters {
+    private static final Status.Code[] CODES = Status.Code.values();
+
+    private final String method;
+    private final MeterRegistry meterRegistry;
+    private final AtomicReferenceArray<Timer> timersByStatus =
+        new AtomicReferenceArray<>(CODES.length);
+    private final DistributionSummary requestSize;
+    private final DistributionSummary responseSize;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    MethodMeters(String method, MeterRegistry meterRegistry) {
+      this.method = method;
+      this.meterRegistry = meterRegistry;
+      this.requestSize =
+          DistributionSummary.builder("grpc.server.request.size")
+              .description("Serialized size of gRPC request messages")
+              .baseUnit("bytes")
+              .tag("method", method)
+              .register(meterRegistry);
+      this.responseSize =
+          DistributionSummary.builder("grpc.server.response.size")
+              .description("Serialized size of gRPC response messages")
+              .baseUnit("bytes")
+              .tag("method", method)
+              .register(meterRegistry);
+      Gauge.builder("grpc.server.requests.active", inFlight, AtomicInteger::get)
+          .description("gRPC server calls in progress")
+          .tag("method", method)
+          .strongReference(true)
+          .register(meterRegistry);
+    }
+
+    Timer timer(Status.Code code) {
+      var timer = timersByStatus.get(code.ordinal());
+      if (timer == null) {
+        // Registering twice on a race returns the same timer.
+        timer =
+            Timer.builder("grpc.server.requests")
+                .description("gRPC server request duration")
+                .tag("method", method)
+                .tag("status", code.name())
+                .register(meterRegistry);
+        timersByStatus.set(code.ordinal(), timer);
+      }
+      return timer;
+    }
+  }
+
+  private static final class MeteredCall<ReqT, RespT>
+      extends ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT> {
+    private final MethodMeters meters;
+    private final long startNanos = System.nanoTime();
+    private volatile boolean closed;
+
+    MeteredCall(ServerCall<ReqT, RespT> call, MethodMeters meters) {
+      super(call);
+      this.meters = meters;
+      meters.inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void sendMessage(RespT message) {
+      int size = sizeOf(message);
+      if (size >= 0) {
+        meters.responseSize.record(size);
+      }
+      super.sendMessage(message);
+    }
+
+    @Override
+    public void close(Status status, Metadata trailers) {
+      record(status.getCode());
+      super.close(status, trailers);
+    }
+
+    void record(Status.Code code) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      meters.timer(code).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      logger.debug("gRPC server call completed method={} status={}", meters.method, code);
+    }
+
+    void finish() {
+      meters.inFlight.decrementAndGet();
+    }
+  }
+
+  private static final class MeteredListener<ReqT>
+      extends ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT> {
+    private final MeteredCall<ReqT, ?> call;
+
+    MeteredListener(ServerCall.Listener<ReqT> delegate, MeteredCall<ReqT, ?> call) {
+      super(delegate);
+      this.call = call;
+    }
+
+    @Override
+    public void onMessage(ReqT message) {
+      int size = sizeOf(message);
+      if (size >= 0) {
+        call.meters.requestSize.record(size);
+      }
+      super.onMessage(message);
+    }
+
+    @Override
+    public void onComplete() {
+      try {
+        super.onComplete();
+      } finally {
+        call.finish();
+      }
+    }
+
+    @Override
+    public void onCancel() {
+      // A call the client cancelled before the service closed it.
+      call.record(Status.Code.CANCELLED);
+      try {
+        super.onCancel();
+      } finally {
+        call.finish();
+      }
+    }
+  }
+}
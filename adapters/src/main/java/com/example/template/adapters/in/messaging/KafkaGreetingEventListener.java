@@ -1,13 +1,17 @@
 package com.example.template.adapters.in.messaging;
 
 import com.example.template.domain.events.GreetingCreatedEvent;
+import com.example.template.domain.ports.in.GreetingBatchHandlingException;
 import com.example.template.domain.ports.in.GreetingEventHandler;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -19,7 +23,8 @@ public class KafkaGreetingEventListener {
   private final Counter eventsReceivedCounter;
   private final Counter eventsProcessedCounter;
   private final Counter eventsFailedCounter;
-  private final Timer eventProcessingTimer;
+  private final Timer batchProcessingTimer;
+  private final DistributionSummary batchSizeSummary;
 
   public KafkaGreetingEventListener(
       GreetingEventHandler eventHandler, MeterRegistry meterRegistry) {
@@ -39,9 +44,13 @@ public class KafkaGreetingEventListener {
             .description("Number of greeting events that failed processing")
             .tag("outcome", "failure")
             .register(meterRegistry);
-    this.eventProcessingTimer =
-        Timer.builder("kafka.greeting.events.processing.time")
-            .description("Time to process greeting events")
+    this.batchProcessingTimer =
+        Timer.builder("kafka.greeting.events.batch.processing.time")
+            .description("Time to process a batch of greeting events")
+            .register(meterRegistry);
+    this.batchSizeSummary =
+        DistributionSummary.builder("kafka.greeting.events.batch.size")
+            .description("Number of greeting events delivered per listener batch")
             .register(meterRegistry);
   }
 
@@ -49,25 +58,37 @@ public class KafkaGreetingEventListener {
       topics = "greeting-events",
       groupId = "${spring.kafka.consumer.group-id:greeting-service-group}",
       containerFactory = "greetingEventListenerFactory")
-  public void onGreetingCreated(GreetingCreatedEvent event) {
-    eventsReceivedCounter.increment();
-    logger.info(
-        "Received greeting event eventId={} greetingId={}", event.eventId(), event.greetingId());
+  public void onGreetingCreated(List<GreetingCreatedEvent> events) {
+    eventsReceivedCounter.increment(events.size());
+    batchSizeSummary.record(events.size());
+    logger.info("Received {} greeting events", events.size());
 
-    eventProcessingTimer.record(
+    batchProcessingTimer.record(
         () -> {
           try {
-            eventHandler.handle(event);
-            eventsProcessedCounter.increment();
-            logger.debug("Processed greeting event eventId={}", event.eventId());
-          } catch (Exception e) {
+            eventHandler.handleBatch(events);
+            eventsProcessedCounter.increment(events.size());
+            logger.debug("Processed {} greeting events", events.size());
+          } catch (GreetingBatchHandlingException e) {
+            var failed = events.get(e.failedIndex());
+            eventsProcessedCounter.increment(e.failedIndex());
             eventsFailedCounter.increment();
             logger.error(
                 "Failed to process event eventId={} greetingId={}: {}",
-                event.eventId(),
-                event.greetingId(),
-                e.getMessage(),
-                e);
+                failed.eventId(),
+                failed.greetingId(),
+                e.getCause().getMessage(),
+                e.getCause());
+            // Commits the offsets before the failed record; redelivery resumes from it.
+            throw new BatchListenerFailedException(
+                "Failed to process event eventId=" + failed.eventId(),
+                e.getCause(),
+                e.failedIndex());
+          } catch (RuntimeException e) {
+            // No index to commit up to, so the whole batch is redelivered.
+            eventsFailedCounter.increment(events.size());
+            logger.error(
+                "Failed to process {} greeting events: {}", events.size(), e.getMessage(), e);
             throw e;
           }
         });
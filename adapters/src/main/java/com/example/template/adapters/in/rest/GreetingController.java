@@ -1,25 +1,50 @@
 package com.example.template.adapters.in.rest;
 
+import com.example.template.domain.Greeting;
 import com.example.template.domain.services.GreetingService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/greetings")
 public class GreetingController {
   private static final Logger logger = LoggerFactory.getLogger(GreetingController.class);
+  private static final int MAX_BATCH_SIZE = 500;
+  private static final int MAX_PAGE_SIZE = 1000;
 
   private final GreetingService greetingService;
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter exportWriter;
 
-  public GreetingController(GreetingService greetingService) {
+  public GreetingController(GreetingService greetingService, ObjectMapper objectMapper) {
     this.greetingService = greetingService;
+    this.objectMapper = objectMapper;
+    // Let the generator buffer lines instead of flushing the response after every greeting.
+    this.exportWriter =
+        objectMapper
+            .writerFor(GreetingResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
   }
 
   @PostMapping
@@ -27,6 +52,69 @@ public class GreetingController {
   public GreetingResponse create(@Valid @RequestBody CreateGreetingRequest request) {
     logger.info("Creating greeting");
     var greeting = this.greetingService.createGreeting(request.name());
+    return toResponse(greeting);
+  }
+
+  @GetMapping(params = "ids")
+  public List<GreetingResponse> getAll(@RequestParam("ids") List<UUID> ids) {
+    if (ids.size() > MAX_BATCH_SIZE) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "At most " + MAX_BATCH_SIZE + " ids may be requested at once.");
+    }
+    return this.greetingService.getGreetings(ids).stream()
+        .map(GreetingController::toResponse)
+        .toList();
+  }
+
+  /**
+   * Lists greetings in id order using keyset pagination: pass the previous page's {@code
+   * nextCursor} as {@code cursor}. Each page is an index range scan, so late pages cost the same as
+   * the first.
+   */
+  @GetMapping(params = "!ids")
+  public GreetingPageResponse list(
+      @RequestParam(name = "cursor", required = false) UUID cursor,
+      @RequestParam(name = "limit", defaultValue = "100") int limit) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+    }
+    // One extra row tells whether there is a next page without a second query.
+    var greetings = this.greetingService.getGreetingsAfter(cursor, limit + 1);
+    var page = greetings.size() > limit ? greetings.subList(0, limit) : greetings;
+    var nextCursor = greetings.size() > limit ? page.getLast().id() : null;
+    return new GreetingPageResponse(
+        page.stream().map(GreetingController::toResponse).toList(), nextCursor);
+  }
+
+  /**
+   * Streams every greeting as newline-delimited JSON. Rows are written as they are read from the
+   * database cursor, so memory use does not grow with the table.
+   */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> export() {
+    logger.info("Exporting greetings");
+    StreamingResponseBody body =
+        out -> {
+          try (var generator = this.objectMapper.createGenerator(out)) {
+            // Spring flushes the response after this returns, so it must stay open.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            this.greetingService.forEachGreeting(
+                greeting -> {
+                  try {
+                    this.exportWriter.writeValue(generator, toResponse(greeting));
+                    generator.writeRaw('\n');
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+          }
+        };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
+  private static GreetingResponse toResponse(Greeting greeting) {
     return new GreetingResponse(greeting.id(), greeting.message());
   }
 }
@@ -0,0 +1,7 @@
+package com.example.template.adapters.in.rest;
+
+import java.util.List;
+import java.util.UUID;
+
+/** One page of greetings. {@code nextCursor} is null on the last page. */
+public record GreetingPageResponse(List<GreetingResponse> items, UUID nextCursor) {}
@@ -0,0 +1,31 @@
+package com.example.template.adapters.in.rest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Runs {@code cleanup} once a request has been handled, on the thread that handled it, so
+ * thread-bound state set by one request is not seen by the next request on that thread.
+ */
+public class RequestCleanupFilter extends OncePerRequestFilter {
+  private final Runnable cleanup;
+
+  public RequestCleanupFilter(Runnable cleanup) {
+    this.cleanup = cleanup;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      cleanup.run();
+    }
+  }
+}
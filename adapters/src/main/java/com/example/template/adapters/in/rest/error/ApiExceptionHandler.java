@@ -8,6 +8,7 @@ import org.springframework.web.ErrorResponseException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @RestControllerAdvice
 public class ApiExceptionHandler {
@@ -29,6 +30,17 @@ public class ApiExceptionHandler {
     return problem;
   }
 
+  @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+  public ProblemDetail handleTypeMismatch(
+      MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+    var problem = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+    problem.setType(URI.create("urn:problem:invalid-parameter"));
+    problem.setTitle("Invalid parameter");
+    problem.setDetail("Parameter '" + ex.getName() + "' has an invalid value.");
+    problem.setProperty("path", request.getRequestURI());
+    return problem;
+  }
+
   @ExceptionHandler(ErrorResponseException.class)
   public ProblemDetail handleErrorResponse(ErrorResponseException ex, HttpServletRequest request) {
     var problem = ex.getBody();
@@ -0,0 +1,139 @@
+package com.example.template.adapters.out.cache;
+
+import com.example.template.domain.Greeting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admits a greeting into Redis only once it has been looked up {@code admitAfter} times, as
+ * estimated by a {@link FrequencySketch}. With {@code admitAfter = 1} a greeting is cached on its
+ * second access: the put after creating it is skipped, the one after its first lookup is not.
+ * Greetings created and never read again therefore take up no memory. Greetings looked up at least
+ * {@code hotAfter} times are cached for {@code hotTtl} instead of {@code ttl}; since hot keys are
+ * re-put by early refresh, they keep the longer TTL for as long as they stay hot. Every TTL is
+ * spread by up to {@code jitter} in either direction so entries written together do not expire
+ * together.
+ */
+public class AdaptiveCachePolicy implements CachePolicy {
+  // Rough per-entry footprint on top of the message: key, id and Redis bookkeeping.
+  private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+  private final FrequencySketch sketch;
+  private final int admitAfter;
+  private final Duration ttl;
+  private final int hotAfter;
+  private final Duration hotTtl;
+  private final double jitter;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder lookups = new LongAdder();
+  private final Counter admittedCounter;
+  private final Counter rejectedCounter;
+  private final Counter admittedBytesCounter;
+  private final Counter rejectedBytesCounter;
+
+  public AdaptiveCachePolicy(
+      int expectedEntries,
+      int admitAfter,
+      Duration ttl,
+      int hotAfter,
+      Duration hotTtl,
+      double jitter,
+      MeterRegistry meterRegistry) {
+    if (admitAfter < 0 || admitAfter > hotAfter || hotAfter > FrequencySketch.MAX_FREQUENCY) {
+      throw new IllegalArgumentException(
+          "Expected 0 <= admitAfter <= hotAfter <= "
+              + FrequencySketch.MAX_FREQUENCY
+              + ", got "
+              + admitAfter
+              + " and "
+              + hotAfter);
+    }
+    if (jitter < 0 || jitter >= 1) {
+      throw new IllegalArgumentException("jitter must be in [0, 1): " + jitter);
+    }
+    this.sketch = new FrequencySketch(expectedEntries);
+    this.admitAfter = admitAfter;
+    this.ttl = ttl;
+    this.hotAfter = hotAfter;
+    this.hotTtl = hotTtl;
+    this.jitter = jitter;
+
+    this.admittedCounter = admissions(meterRegistry, "admitted");
+    this.rejectedCounter = admissions(meterRegistry, "rejected");
+    this.admittedBytesCounter = bytes(meterRegistry, "admitted");
+    this.rejectedBytesCounter = bytes(meterRegistry, "rejected");
+    Gauge.builder("cache.greeting.policy.hit.ratio", this, AdaptiveCachePolicy::hitRatio)
+        .description("Share of Redis lookups that found the greeting since startup")
+        .tag("cache", "redis")
+        .register(meterRegistry);
+    Gauge.builder("cache.greeting.policy.sketch.size", sketch, FrequencySketch::sizeInBytes)
+        .description("Memory used by the admission frequency sketch")
+        .baseUnit("bytes")
+        .tag("cache", "redis")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void recordAccess(UUID id, boolean hit) {
+    sketch.increment(id);
+    lookups.increment();
+    if (hit) {
+      hits.increment();
+    }
+  }
+
+  @Override
+  public Optional<Duration> admit(Greeting greeting) {
+    int frequency = sketch.frequency(greeting.id());
+    long bytes = estimatedSize(greeting);
+    if (frequency < admitAfter) {
+      rejectedCounter.increment();
+      rejectedBytesCounter.increment(bytes);
+      return Optional.empty();
+    }
+    admittedCounter.increment();
+    admittedBytesCounter.increment(bytes);
+    return Optional.of(withJitter(frequency >= hotAfter ? hotTtl : ttl));
+  }
+
+  public double hitRatio() {
+    long total = lookups.sum();
+    return total == 0 ? 0 : (double) hits.sum() / total;
+  }
+
+  private Duration withJitter(Duration base) {
+    if (jitter == 0) {
+      return base;
+    }
+    double factor = 1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+    return Duration.ofMillis((long) (base.toMillis() * factor));
+  }
+
+  private static long estimatedSize(Greeting greeting) {
+    return ENTRY_OVERHEAD_BYTES + greeting.message().getBytes(StandardCharsets.UTF_8).length;
+  }
+
+  private static Counter admissions(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("cache.greeting.policy.admissions")
+        .description("Number of greetings the cache policy admitted or rejected")
+        .tag("cache", "redis")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private static Counter bytes(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("cache.greeting.policy.bytes")
+        .description("Estimated Redis memory of greetings the cache policy admitted or rejected")
+        .baseUnit("bytes")
+        .tag("cache", "redis")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
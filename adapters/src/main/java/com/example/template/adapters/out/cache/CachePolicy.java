@@ -0,0 +1,30 @@
+package com.example.template.adapters.out.cache;
+
+import com.example.template.domain.Greeting;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/** Decides which greetings the Redis cache stores, and for how long. */
+public interface CachePolicy {
+
+  /** Called for every lookup, with whether the greeting was found in the cache. */
+  void recordAccess(UUID id, boolean hit);
+
+  /** Returns the TTL to cache {@code greeting} with, or empty to leave it out of the cache. */
+  Optional<Duration> admit(Greeting greeting);
+
+  /** Caches every greeting for {@code ttl}. */
+  static CachePolicy fixed(Duration ttl) {
+    var admitted = Optional.of(ttl);
+    return new CachePolicy() {
+      @Override
+      public void recordAccess(UUID id, boolean hit) {}
+
+      @Override
+      public Optional<Duration> admit(Greeting greeting) {
+        return admitted;
+      }
+    };
+  }
+}
@@ -0,0 +1,93 @@
+package com.example.template.adapters.out.cache;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-min sketch of recent access frequency with four 4-bit counters per key, so estimates
+ * saturate at 15. After ten accesses per expected key all counters are halved, so old popularity
+ * fades. Updates are lock-free; under races a count may be lost, which only makes the estimate
+ * slightly more conservative.
+ */
+final class FrequencySketch {
+  static final int MAX_FREQUENCY = 15;
+
+  private static final int DEPTH = 4;
+  private static final long HALF_MASK = 0x7777_7777_7777_7777L;
+  private static final long[] SEEDS = {
+    0x9E37_79B9_7F4A_7C15L, 0xC2B2_AE3D_27D4_EB4FL, 0x1656_67B1_9E37_79F9L, 0xD6E8_FEB8_6659_FD93L
+  };
+
+  private final AtomicLongArray table;
+  private final int counterMask;
+  private final int sampleSize;
+  private final AtomicInteger additions = new AtomicInteger();
+
+  FrequencySketch(int expectedEntries) {
+    // One long (sixteen counters) per expected key keeps collisions rare, as in Caffeine.
+    int longs = Integer.highestOneBit(Math.max(expectedEntries, 8) * 2 - 1);
+    this.table = new AtomicLongArray(longs);
+    this.counterMask = longs * 16 - 1;
+    this.sampleSize = Math.max(expectedEntries, 1) * 10;
+  }
+
+  int frequency(UUID id) {
+    long hash = hash(id);
+    int frequency = MAX_FREQUENCY;
+    for (int i = 0; i < DEPTH; i++) {
+      int counter = counterIndex(hash, i);
+      frequency = Math.min(frequency, (int) (table.get(counter >>> 4) >>> shift(counter)) & 0xF);
+    }
+    return frequency;
+  }
+
+  void increment(UUID id) {
+    long hash = hash(id);
+    for (int i = 0; i < DEPTH; i++) {
+      int counter = counterIndex(hash, i);
+      int index = counter >>> 4;
+      int shift = shift(counter);
+      long word;
+      do {
+        word = table.get(index);
+        if (((word >>> shift) & 0xF) == MAX_FREQUENCY) {
+          break;
+        }
+      } while (!table.compareAndSet(index, word, word + (1L << shift)));
+    }
+    if (additions.incrementAndGet() == sampleSize) {
+      halve();
+    }
+  }
+
+  long sizeInBytes() {
+    return table.length() * (long) Long.BYTES;
+  }
+
+  private void halve() {
+    for (int i = 0; i < table.length(); i++) {
+      long word;
+      do {
+        word = table.get(i);
+      } while (!table.compareAndSet(i, word, (word >>> 1) & HALF_MASK));
+    }
+    additions.addAndGet(-sampleSize / 2);
+  }
+
+  private int counterIndex(long hash, int row) {
+    long mixed = (hash + SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+    return (int) (mixed ^ (mixed >>> 32)) & counterMask;
+  }
+
+  private static int shift(int counter) {
+    return (counter & 15) << 2;
+  }
+
+  private static long hash(UUID id) {
+    long hash = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+    hash = (hash ^ (hash >>> 33)) * 0xFF51_AFD7_ED55_8CCDL;
+    hash = (hash ^ (hash >>> 33)) * 0xC4CE_B9FE_1A85_EC53L;
+    return hash ^ (hash >>> 33);
+  }
+}
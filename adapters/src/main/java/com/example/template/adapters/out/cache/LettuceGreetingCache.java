@@ -0,0 +1,334 @@
+package com.example.template.adapters.out.cache;
+
+import com.example.template.domain.Greeting;
+import com.example.template.domain.ports.out.CachedGreeting;
+import com.example.template.domain.ports.out.GreetingCache;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link GreetingCache} on a single shared Lettuce connection. Lettuce multiplexes the commands of
+ * all callers onto the connection and pipelines them, so concurrent callers share round trips
+ * instead of each borrowing a pooled connection for a full round trip.
+ *
+ * <p>Reads wait up to {@code timeout} for their replies. Writes and single evictions are sent
+ * without waiting and failures are logged. Redis runs the commands of one connection in order, so a
+ * read issued after a put still sees it.
+ */
+public class LettuceGreetingCache implements GreetingCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(LettuceGreetingCache.class);
+
+  private final RedisAsyncCommands<String, Greeting> commands;
+  private final Duration timeout;
+  private final CachePolicy policy;
+  private final Duration missingTtl;
+  private final Counter cacheHitCounter;
+  private final Counter cacheMissCounter;
+  private final Counter tombstoneHitCounter;
+  private final Counter cacheEvictionCounter;
+  private final Timer cacheGetTimer;
+  private final Timer cachePutTimer;
+  private final Timer evictAllTimer;
+  private final Counter evictAllScannedCounter;
+
+  public LettuceGreetingCache(
+      StatefulRedisConnection<String, Greeting> connection,
+      MeterRegistry meterRegistry,
+      Duration timeout,
+      CachePolicy policy) {
+    this(connection, meterRegistry, timeout, policy, RedisGreetingCache.MISSING_TTL);
+  }
+
+  public LettuceGreetingCache(
+      StatefulRedisConnection<String, Greeting> connection,
+      MeterRegistry meterRegistry,
+      Duration timeout,
+      CachePolicy policy,
+      Duration missingTtl) {
+    this.commands = connection.async();
+    this.timeout = timeout;
+    this.policy = policy;
+    this.missingTtl = missingTtl;
+
+    // Same meters as RedisGreetingCache, so dashboards work with either client.
+    this.cacheHitCounter =
+        Counter.builder("cache.greeting.hits")
+            .description("Number of cache hits")
+            .tag("cache", "redis")
+            .register(meterRegistry);
+    this.cacheMissCounter =
+        Counter.builder("cache.greeting.misses")
+            .description("Number of cache misses")
+            .tag("cache", "redis")
+            .register(meterRegistry);
+    this.tombstoneHitCounter =
+        Counter.builder("cache.greeting.tombstone.hits")
+            .description("Number of lookups answered by a tombstone for a missing greeting")
+            .tag("cache", "redis")
+            .register(meterRegistry);
+    this.cacheEvictionCounter =
+        Counter.builder("cache.greeting.evictions")
+            .description("Number of entries removed from the cache")
+            .tag("cache", "redis")
+            .register(meterRegistry);
+    this.cacheGetTimer =
+        Timer.builder("cache.greeting.get")
+            .description("Time to get from cache")
+            .tag("cache", "redis")
+            .register(meterRegistry);
+    this.cachePutTimer =
+        Timer.builder("cache.greeting.put")
+            .description("Time to put into cache")
+            .tag("cache", "redis")
+            .register(meterRegistry);
+    this.evictAllTimer =
+        Timer.builder("cache.greeting.evict.all")
+            .description("Time to remove every greeting from the cache")
+            .tag("cache", "redis")
+            .register(meterRegistry);
+    this.evictAllScannedCounter =
+        Counter.builder("cache.greeting.evict.all.scanned")
+            .description("Number of keys found by evict-all scans")
+            .tag("cache", "redis")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public Optional<Greeting> get(UUID id) {
+    return cacheGetTimer.record(
+        () -> {
+          try {
+            var value = await(commands.get(keyFor(id)));
+            recordLookup(id, value);
+            return Optional.ofNullable(value);
+          } catch (Exception e) {
+            logger.error("Cache GET failed for greeting id={}: {}", id, e.getMessage());
+            cacheMissCounter.increment();
+            return Optional.empty();
+          }
+        });
+  }
+
+  @Override
+  public Optional<CachedGreeting> getEntry(UUID id) {
+    return cacheGetTimer.record(
+        () -> {
+          try {
+            var key = keyFor(id);
+            // Both commands go out before waiting, so they share one round trip.
+            var value = commands.get(key);
+            var ttl = commands.pttl(key);
+            var greeting = await(value);
+            var ttlMillis = await(ttl);
+            if (greeting == null && ttlMillis != null && ttlMillis >= 0) {
+              // The key exists but holds no greeting: a tombstone.
+              tombstoneHitCounter.increment();
+              return Optional.of(CachedGreeting.missing(expiresAt(ttlMillis)));
+            }
+            recordLookup(id, greeting);
+            if (greeting == null) {
+              return Optional.empty();
+            }
+            return Optional.of(new CachedGreeting(greeting, expiresAt(ttlMillis)));
+          } catch (Exception e) {
+            logger.error("Cache GET failed for greeting id={}: {}", id, e.getMessage());
+            cacheMissCounter.increment();
+            return Optional.empty();
+          }
+        });
+  }
+
+  @Override
+  public Map<UUID, Greeting> getAll(Collection<UUID> ids) {
+    var found = new HashMap<UUID, Greeting>();
+    if (ids.isEmpty()) {
+      return found;
+    }
+    cacheGetTimer.record(
+        () -> {
+          try {
+            var idList = List.copyOf(ids);
+            var values =
+                await(commands.mget(idList.stream().map(this::keyFor).toArray(String[]::new)));
+            for (int i = 0; i < idList.size(); i++) {
+              // Tombstones decode to null and count as misses here.
+              var value = values.get(i).getValueOrElse(null);
+              policy.recordAccess(idList.get(i), value != null);
+              if (value != null) {
+                found.put(idList.get(i), value);
+              }
+            }
+            cacheHitCounter.increment(found.size());
+            cacheMissCounter.increment(idList.size() - found.size());
+          } catch (Exception e) {
+            logger.error("Cache MGET failed for {} greetings: {}", ids.size(), e.getMessage());
+            cacheMissCounter.increment(ids.size());
+          }
+        });
+    return found;
+  }
+
+  @Override
+  public void put(Greeting greeting) {
+    var admitted = policy.admit(greeting);
+    if (admitted.isEmpty()) {
+      return;
+    }
+    var sample = Timer.start();
+    commands
+        .set(keyFor(greeting.id()), greeting, SetArgs.Builder.px(admitted.get()))
+        .whenComplete(
+            (result, ex) -> {
+              sample.stop(cachePutTimer);
+              if (ex != null) {
+                logger.error(
+                    "Cache PUT failed for greeting id={}: {}", greeting.id(), ex.getMessage());
+              }
+            });
+  }
+
+  @Override
+  public void putAll(Collection<Greeting> greetings) {
+    var sample = Timer.start();
+    var sets = new ArrayList<CompletableFuture<String>>(greetings.size());
+    for (var greeting : greetings) {
+      policy
+          .admit(greeting)
+          .ifPresent(
+              ttl ->
+                  sets.add(
+                      commands
+                          .set(keyFor(greeting.id()), greeting, SetArgs.Builder.px(ttl))
+                          .toCompletableFuture()));
+    }
+    if (sets.isEmpty()) {
+      return;
+    }
+    CompletableFuture.allOf(sets.toArray(CompletableFuture<?>[]::new))
+        .whenComplete(
+            (result, ex) -> {
+              sample.stop(cachePutTimer);
+              if (ex != null) {
+                logger.error(
+                    "Cache pipelined PUT failed for {} greetings: {}",
+                    sets.size(),
+                    ex.getMessage());
+              }
+            });
+  }
+
+  /**
+   * Stores an empty value with SET NX, as in {@link RedisGreetingCache#putMissing(UUID)}; the codec
+   * encodes a {@code null} greeting as an empty value.
+   */
+  @Override
+  public void putMissing(UUID id) {
+    if (missingTtl.isZero()) {
+      return;
+    }
+    commands
+        .set(keyFor(id), null, SetArgs.Builder.nx().px(missingTtl))
+        .whenComplete(
+            (result, ex) -> {
+              if (ex != null) {
+                logger.error(
+                    "Cache PUT tombstone failed for greeting id={}: {}", id, ex.getMessage());
+              }
+            });
+  }
+
+  @Override
+  public void evict(UUID id) {
+    commands
+        .del(keyFor(id))
+        .whenComplete(
+            (deleted, ex) -> {
+              if (ex != null) {
+                logger.error("Cache EVICT failed for greeting id={}: {}", id, ex.getMessage());
+              } else if (deleted > 0) {
+                cacheEvictionCounter.increment();
+              }
+            });
+  }
+
+  /** Incremental SCAN and UNLINK, as in {@link RedisGreetingCache#evictAll()}. */
+  @Override
+  public void evictAll() {
+    var args =
+        ScanArgs.Builder.matches(RedisGreetingCache.KEY_PREFIX + "*")
+            .limit(RedisGreetingCache.EVICT_BATCH_SIZE);
+    long start = System.nanoTime();
+    long evicted = 0;
+    try {
+      ScanCursor cursor = ScanCursor.INITIAL;
+      do {
+        var page = await(commands.scan(cursor, args));
+        evicted += unlink(page.getKeys());
+        cursor = page;
+      } while (!cursor.isFinished());
+      logger.info("Evicted {} greeting entries from cache", evicted);
+    } catch (Exception e) {
+      logger.error("Cache EVICT ALL failed after {} entries: {}", evicted, e.getMessage());
+    } finally {
+      evictAllTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private long unlink(List<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+    evictAllScannedCounter.increment(keys.size());
+    long unlinked = await(commands.unlink(keys.toArray(String[]::new)));
+    cacheEvictionCounter.increment(unlinked);
+    return unlinked;
+  }
+
+  private <T> T await(RedisFuture<T> future) {
+    return LettuceFutures.awaitOrCancel(future, timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  private void recordLookup(UUID id, Greeting value) {
+    policy.recordAccess(id, value != null);
+    if (value != null) {
+      cacheHitCounter.increment();
+      logger.debug("Cache HIT for greeting id={}", id);
+    } else {
+      cacheMissCounter.increment();
+      logger.debug("Cache MISS for greeting id={}", id);
+    }
+  }
+
+  private static Instant expiresAt(Long ttlMillis) {
+    if (ttlMillis == null || ttlMillis < 0) {
+      return Instant.MAX;
+    }
+    return Instant.now().plusMillis(ttlMillis);
+  }
+
+  private String keyFor(UUID id) {
+    return RedisGreetingCache.KEY_PREFIX + id;
+  }
+}
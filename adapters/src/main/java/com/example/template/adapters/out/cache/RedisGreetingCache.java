@@ -1,35 +1,82 @@
 package com.example.template.adapters.out.cache;
 
 import com.example.template.domain.Greeting;
+import com.example.template.domain.ports.out.CachedGreeting;
 import com.example.template.domain.ports.out.GreetingCache;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.stereotype.Component;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.types.Expiration;
 
-@Component
+/**
+ * {@link GreetingCache} on {@link RedisTemplate}. Pipelined calls hold a dedicated pooled
+ * connection for their whole round trip; see {@link LettuceGreetingCache} for a multiplexed
+ * alternative.
+ */
 public class RedisGreetingCache implements GreetingCache {
 
   private static final Logger logger = LoggerFactory.getLogger(RedisGreetingCache.class);
-  private static final String KEY_PREFIX = "greeting:";
-  private static final Duration TTL = Duration.ofMinutes(30);
+  static final String KEY_PREFIX = "greeting:";
+  static final Duration TTL = Duration.ofMinutes(30);
+  static final Duration MISSING_TTL = Duration.ofSeconds(30);
+  static final int EVICT_BATCH_SIZE = 500;
 
   private final RedisTemplate<String, Greeting> redisTemplate;
+  private final CachePolicy policy;
+  private final Duration missingTtl;
   private final Counter cacheHitCounter;
   private final Counter cacheMissCounter;
+  private final Counter tombstoneHitCounter;
+  private final Counter cacheEvictionCounter;
   private final Timer cacheGetTimer;
   private final Timer cachePutTimer;
+  private final Timer evictAllTimer;
+  private final Counter evictAllScannedCounter;
 
   public RedisGreetingCache(
       RedisTemplate<String, Greeting> redisTemplate, MeterRegistry meterRegistry) {
+    this(redisTemplate, meterRegistry, CachePolicy.fixed(TTL));
+  }
+
+  public RedisGreetingCache(
+      RedisTemplate<String, Greeting> redisTemplate,
+      MeterRegistry meterRegistry,
+      CachePolicy policy) {
+    this(redisTemplate, meterRegistry, policy, MISSING_TTL);
+  }
+
+  /**
+   * {@code missingTtl} is how long a {@link #putMissing(UUID) tombstone} lives; zero disables them.
+   */
+  public RedisGreetingCache(
+      RedisTemplate<String, Greeting> redisTemplate,
+      MeterRegistry meterRegistry,
+      CachePolicy policy,
+      Duration missingTtl) {
     this.redisTemplate = redisTemplate;
+    this.policy = policy;
+    this.missingTtl = missingTtl;
 
     this.cacheHitCounter =
         Counter.builder("cache.greeting.hits")
@@ -41,6 +88,16 @@ public class RedisGreetingCache implements GreetingCache {
             .description("Number of cache misses")
             .tag("cache", "redis")
             .register(meterRegistry);
+    this.tombstoneHitCounter =
+        Counter.builder("cache.greeting.tombstone.hits")
+            .description("Number of lookups answered by a tombstone for a missing greeting")
+            .tag("cache", "redis")
+            .register(meterRegistry);
+    this.cacheEvictionCounter =
+        Counter.builder("cache.greeting.evictions")
+            .description("Number of entries removed from the cache")
+            .tag("cache", "redis")
+            .register(meterRegistry);
     this.cacheGetTimer =
         Timer.builder("cache.greeting.get")
             .description("Time to get from cache")
@@ -51,6 +108,16 @@ public class RedisGreetingCache implements GreetingCache {
             .description("Time to put into cache")
             .tag("cache", "redis")
             .register(meterRegistry);
+    this.evictAllTimer =
+        Timer.builder("cache.greeting.evict.all")
+            .description("Time to remove every greeting from the cache")
+            .tag("cache", "redis")
+            .register(meterRegistry);
+    this.evictAllScannedCounter =
+        Counter.builder("cache.greeting.evict.all.scanned")
+            .description("Number of keys found by evict-all scans")
+            .tag("cache", "redis")
+            .register(meterRegistry);
   }
 
   @Override
@@ -60,6 +127,7 @@ public class RedisGreetingCache implements GreetingCache {
         () -> {
           try {
             var value = redisTemplate.opsForValue().get(keyFor(id));
+            policy.recordAccess(id, value != null);
             if (value != null) {
               cacheHitCounter.increment();
               logger.debug("Cache HIT for greeting id={}", id);
@@ -76,43 +144,210 @@ public class RedisGreetingCache implements GreetingCache {
         });
   }
 
+  @Override
+  public Optional<CachedGreeting> getEntry(UUID id) {
+    logger.debug("Cache GET entry for greeting id={}", id);
+    return cacheGetTimer.record(
+        () -> {
+          try {
+            var key = keyFor(id);
+            List<Object> results =
+                redisTemplate.executePipelined(
+                    new SessionCallback<Object>() {
+                      @Override
+                      @SuppressWarnings("unchecked")
+                      public <K, V> Object execute(RedisOperations<K, V> operations) {
+                        var ops = (RedisOperations<String, Greeting>) operations;
+                        ops.opsForValue().get(key);
+                        ops.getExpire(key, TimeUnit.MILLISECONDS);
+                        return null;
+                      }
+                    });
+            var value = (Greeting) results.get(0);
+            var ttlMillis = (Long) results.get(1);
+            if (value == null && ttlMillis != null && ttlMillis >= 0) {
+              // The key exists but holds no greeting: a tombstone.
+              tombstoneHitCounter.increment();
+              logger.debug("Cache TOMBSTONE for greeting id={}", id);
+              return Optional.of(CachedGreeting.missing(expiresAt(ttlMillis)));
+            }
+            policy.recordAccess(id, value != null);
+            if (value == null) {
+              cacheMissCounter.increment();
+              logger.debug("Cache MISS for greeting id={}", id);
+              return Optional.empty();
+            }
+            cacheHitCounter.increment();
+            logger.debug("Cache HIT for greeting id={}", id);
+            return Optional.of(new CachedGreeting(value, expiresAt(ttlMillis)));
+          } catch (Exception e) {
+            logger.error("Cache GET failed for greeting id={}: {}", id, e.getMessage());
+            cacheMissCounter.increment();
+            return Optional.empty();
+          }
+        });
+  }
+
+  @Override
+  public Map<UUID, Greeting> getAll(Collection<UUID> ids) {
+    logger.debug("Cache MGET for {} greetings", ids.size());
+    var found = new HashMap<UUID, Greeting>();
+    if (ids.isEmpty()) {
+      return found;
+    }
+    cacheGetTimer.record(
+        () -> {
+          try {
+            var idList = List.copyOf(ids);
+            var keys = idList.stream().map(this::keyFor).toList();
+            var values = redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < idList.size(); i++) {
+              var value = values != null ? values.get(i) : null;
+              policy.recordAccess(idList.get(i), value != null);
+              if (value != null) {
+                found.put(idList.get(i), value);
+              }
+            }
+            cacheHitCounter.increment(found.size());
+            cacheMissCounter.increment(idList.size() - found.size());
+          } catch (Exception e) {
+            logger.error("Cache MGET failed for {} greetings: {}", ids.size(), e.getMessage());
+            cacheMissCounter.increment(ids.size());
+          }
+        });
+    return found;
+  }
+
   @Override
   public void put(Greeting greeting) {
     logger.debug("Cache PUT for greeting id={}", greeting.id());
+    var admitted = policy.admit(greeting);
+    if (admitted.isEmpty()) {
+      logger.debug("Cache policy did not admit greeting id={}", greeting.id());
+      return;
+    }
+    var ttl = admitted.get();
     cachePutTimer.record(
         () -> {
           try {
-            redisTemplate.opsForValue().set(keyFor(greeting.id()), greeting, TTL);
-            logger.info("Cached greeting id={} with TTL={}min", greeting.id(), TTL.toMinutes());
+            redisTemplate.opsForValue().set(keyFor(greeting.id()), greeting, ttl);
+            logger.info("Cached greeting id={} with TTL={}s", greeting.id(), ttl.toSeconds());
           } catch (Exception e) {
             logger.error("Cache PUT failed for greeting id={}: {}", greeting.id(), e.getMessage());
           }
         });
   }
 
+  @Override
+  public void putAll(Collection<Greeting> greetings) {
+    var admitted = new LinkedHashMap<Greeting, Duration>();
+    for (var greeting : greetings) {
+      policy.admit(greeting).ifPresent(ttl -> admitted.put(greeting, ttl));
+    }
+    if (admitted.isEmpty()) {
+      return;
+    }
+    logger.debug("Cache pipelined PUT for {} greetings", admitted.size());
+    cachePutTimer.record(
+        () -> {
+          try {
+            redisTemplate.executePipelined(
+                new SessionCallback<Object>() {
+                  @Override
+                  @SuppressWarnings("unchecked")
+                  public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    var ops = (RedisOperations<String, Greeting>) operations;
+                    admitted.forEach(
+                        (greeting, ttl) ->
+                            ops.opsForValue().set(keyFor(greeting.id()), greeting, ttl));
+                    return null;
+                  }
+                });
+          } catch (Exception e) {
+            logger.error(
+                "Cache pipelined PUT failed for {} greetings: {}", admitted.size(), e.getMessage());
+          }
+        });
+  }
+
+  /** Stores an empty value with SET NX, so a tombstone never replaces a cached greeting. */
+  @Override
+  public void putMissing(UUID id) {
+    if (missingTtl.isZero()) {
+      return;
+    }
+    logger.debug("Cache PUT tombstone for greeting id={}", id);
+    try {
+      var key = keyFor(id).getBytes(StandardCharsets.UTF_8);
+      redisTemplate.execute(
+          (RedisCallback<Boolean>)
+              connection ->
+                  connection
+                      .stringCommands()
+                      .set(key, new byte[0], Expiration.from(missingTtl), SetOption.ifAbsent()));
+    } catch (Exception e) {
+      logger.error("Cache PUT tombstone failed for greeting id={}: {}", id, e.getMessage());
+    }
+  }
+
   @Override
   public void evict(UUID id) {
     logger.debug("Cache EVICT for greeting id={}", id);
     try {
-      redisTemplate.delete(keyFor(id));
+      if (Boolean.TRUE.equals(redisTemplate.delete(keyFor(id)))) {
+        cacheEvictionCounter.increment();
+      }
       logger.info("Evicted greeting id={} from cache", id);
     } catch (Exception e) {
       logger.error("Cache EVICT failed for greeting id={}: {}", id, e.getMessage());
     }
   }
 
+  /**
+   * Removes every greeting with SCAN and UNLINK in batches of {@code EVICT_BATCH_SIZE}. Each
+   * command touches a bounded number of keys and UNLINK frees memory off the main thread, so Redis
+   * keeps serving other clients throughout. Greetings cached while the scan runs may survive it.
+   */
   @Override
   public void evictAll() {
     logger.debug("Cache EVICT ALL");
-    try {
-      Set<String> keys = redisTemplate.keys(KEY_PREFIX + "*");
-      if (keys != null && !keys.isEmpty()) {
-        redisTemplate.delete(keys);
-        logger.info("Evicted {} greeting entries from cache", keys.size());
+    var options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(EVICT_BATCH_SIZE).build();
+    long start = System.nanoTime();
+    long evicted = 0;
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      var batch = new ArrayList<String>(EVICT_BATCH_SIZE);
+      while (cursor.hasNext()) {
+        batch.add(cursor.next());
+        if (batch.size() == EVICT_BATCH_SIZE) {
+          evicted += unlink(batch);
+          batch.clear();
+        }
       }
+      evicted += unlink(batch);
+      logger.info("Evicted {} greeting entries from cache", evicted);
     } catch (Exception e) {
-      logger.error("Cache EVICT ALL failed: {}", e.getMessage());
+      logger.error("Cache EVICT ALL failed after {} entries: {}", evicted, e.getMessage());
+    } finally {
+      evictAllTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private long unlink(List<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+    evictAllScannedCounter.increment(keys.size());
+    Long unlinked = redisTemplate.unlink(keys);
+    long count = unlinked != null ? unlinked : 0;
+    cacheEvictionCounter.increment(count);
+    return count;
+  }
+
+  private static Instant expiresAt(Long ttlMillis) {
+    if (ttlMillis == null || ttlMillis < 0) {
+      return Instant.MAX;
     }
+    return Instant.now().plusMillis(ttlMillis);
   }
 
   private String keyFor(UUID id) {
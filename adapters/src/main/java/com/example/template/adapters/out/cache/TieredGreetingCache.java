@@ -0,0 +1,192 @@
+package com.example.template.adapters.out.cache;
+
+import com.example.template.domain.Greeting;
+import com.example.template.domain.ports.out.CachedGreeting;
+import com.example.template.domain.ports.out.GreetingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * In-process L1 cache in front of a remote {@link GreetingCache}.
+ *
+ * <p>The local tier is size bounded and uses Caffeine's frequency-aware (W-TinyLFU) eviction.
+ * Evictions are broadcast on {@link #INVALIDATION_CHANNEL} so every instance drops its local copy;
+ * the local TTL bounds staleness if a pub/sub message is lost.
+ *
+ * <p>Local entries keep the remote copy's expiry, so early refresh still sees hot keys approach it.
+ * After a put that is {@code remoteTtl} from now. Greetings fetched with {@link #getAll} come
+ * without it, so they are treated as expiring with the local entry.
+ */
+public class TieredGreetingCache implements GreetingCache, MessageListener {
+
+  public static final String INVALIDATION_CHANNEL = "greeting:invalidations";
+
+  private static final Logger logger = LoggerFactory.getLogger(TieredGreetingCache.class);
+  private static final String EVICT_ALL_MESSAGE = "*";
+
+  private final GreetingCache remote;
+  private final StringRedisTemplate redisTemplate;
+  private final Cache<UUID, CachedGreeting> local;
+  private final Duration localTtl;
+  private final Duration remoteTtl;
+  private final Counter cacheHitCounter;
+  private final Counter cacheMissCounter;
+  private final Counter cacheEvictionCounter;
+
+  public TieredGreetingCache(
+      GreetingCache remote,
+      StringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry,
+      long maximumSize,
+      Duration ttl,
+      Duration remoteTtl) {
+    this.remote = remote;
+    this.redisTemplate = redisTemplate;
+    this.localTtl = ttl;
+    this.remoteTtl = remoteTtl;
+
+    this.cacheHitCounter =
+        Counter.builder("cache.greeting.hits")
+            .description("Number of cache hits")
+            .tag("cache", "local")
+            .register(meterRegistry);
+    this.cacheMissCounter =
+        Counter.builder("cache.greeting.misses")
+            .description("Number of cache misses")
+            .tag("cache", "local")
+            .register(meterRegistry);
+    this.cacheEvictionCounter =
+        Counter.builder("cache.greeting.evictions")
+            .description("Number of entries removed from the cache")
+            .tag("cache", "local")
+            .register(meterRegistry);
+
+    this.local =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .removalListener(
+                (UUID id, CachedGreeting entry, RemovalCause cause) -> {
+                  if (cause != RemovalCause.REPLACED) {
+                    cacheEvictionCounter.increment();
+                  }
+                })
+            .build();
+  }
+
+  @Override
+  public Optional<Greeting> get(UUID id) {
+    return getEntry(id).map(CachedGreeting::greeting);
+  }
+
+  @Override
+  public Optional<CachedGreeting> getEntry(UUID id) {
+    var entry = local.getIfPresent(id);
+    if (entry != null) {
+      cacheHitCounter.increment();
+      return Optional.of(entry);
+    }
+    cacheMissCounter.increment();
+
+    var fromRemote = remote.getEntry(id);
+    // Tombstones stay remote only: a create on another instance does not broadcast, so a local
+    // tombstone could hide the new greeting for the whole local TTL.
+    fromRemote
+        .filter(remoteEntry -> !remoteEntry.isMissing())
+        .ifPresent(remoteEntry -> local.put(id, remoteEntry));
+    return fromRemote;
+  }
+
+  @Override
+  public Map<UUID, Greeting> getAll(Collection<UUID> ids) {
+    var found = new HashMap<UUID, Greeting>();
+    local.getAllPresent(ids).forEach((id, entry) -> found.put(id, entry.greeting()));
+    cacheHitCounter.increment(found.size());
+
+    var misses = ids.stream().filter(id -> !found.containsKey(id)).toList();
+    cacheMissCounter.increment(misses.size());
+    if (!misses.isEmpty()) {
+      remote
+          .getAll(misses)
+          .forEach(
+              (id, greeting) -> {
+                local.put(id, new CachedGreeting(greeting, Instant.now().plus(localTtl)));
+                found.put(id, greeting);
+              });
+    }
+    return found;
+  }
+
+  @Override
+  public void put(Greeting greeting) {
+    remote.put(greeting);
+    local.put(greeting.id(), new CachedGreeting(greeting, Instant.now().plus(remoteTtl)));
+  }
+
+  @Override
+  public void putAll(Collection<Greeting> greetings) {
+    remote.putAll(greetings);
+    var expiresAt = Instant.now().plus(remoteTtl);
+    greetings.forEach(
+        greeting -> local.put(greeting.id(), new CachedGreeting(greeting, expiresAt)));
+  }
+
+  @Override
+  public void putMissing(UUID id) {
+    remote.putMissing(id);
+  }
+
+  @Override
+  public void evict(UUID id) {
+    local.invalidate(id);
+    remote.evict(id);
+    broadcast(id.toString());
+  }
+
+  @Override
+  public void evictAll() {
+    local.invalidateAll();
+    remote.evictAll();
+    broadcast(EVICT_ALL_MESSAGE);
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    var body = new String(message.getBody(), StandardCharsets.UTF_8);
+    if (EVICT_ALL_MESSAGE.equals(body)) {
+      local.invalidateAll();
+      logger.debug("Local cache cleared by invalidation message");
+      return;
+    }
+    try {
+      local.invalidate(UUID.fromString(body));
+      logger.debug("Local cache invalidated greeting id={}", body);
+    } catch (IllegalArgumentException e) {
+      logger.warn("Ignoring malformed cache invalidation message: {}", body);
+    }
+  }
+
+  private void broadcast(String message) {
+    try {
+      redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+    } catch (Exception e) {
+      logger.error("Cache invalidation broadcast failed message={}: {}", message, e.getMessage());
+    }
+  }
+}
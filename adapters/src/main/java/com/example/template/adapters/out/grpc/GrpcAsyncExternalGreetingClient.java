@@ -0,0 +1,266 @@
+package com.example.template.adapters.out.grpc;
+
+import com.example.template.adapters.grpc.generated.CreateGreetingRequest;
+import com.example.template.adapters.grpc.generated.GetGreetingRequest;
+import com.example.template.adapters.grpc.generated.GreetingResponse;
+import com.example.template.adapters.grpc.generated.GreetingServiceGrpc;
+import com.example.template.domain.Greeting;
+import com.example.template.domain.ports.out.AsyncExternalGreetingClient;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AsyncExternalGreetingClient} on the gRPC future stub. Every call gets its own deadline.
+ *
+ * <p>With hedging enabled, {@code GetGreeting} sends a second attempt if the first has not answered
+ * within the observed p95 latency, and completes with whichever answers first. Until enough calls
+ * have been seen, the configured initial delay is used. {@code CreateGreeting} is not idempotent
+ * and is never hedged.
+ *
+ * <p>The request timers for every method and status are registered in the constructor, so
+ * completing a call only indexes an array.
+ */
+public class GrpcAsyncExternalGreetingClient implements AsyncExternalGreetingClient, AutoCloseable {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(GrpcAsyncExternalGreetingClient.class);
+  private static final int MIN_HEDGE_SAMPLES = 20;
+
+  private final GreetingServiceGrpc.GreetingServiceFutureStub stub;
+  private final MeterRegistry meterRegistry;
+  private final Duration deadline;
+  private final boolean hedging;
+  private final Duration initialHedgeDelay;
+  private final Timer getLatency;
+  private final Timer[] getTimers;
+  private final Timer[] createTimers;
+  private final Counter hedgeCounter;
+  private final ScheduledExecutorService hedgeScheduler;
+
+  public GrpcAsyncExternalGreetingClient(
+      GreetingServiceGrpc.GreetingServiceFutureStub stub,
+      MeterRegistry meterRegistry,
+      Duration deadline,
+      boolean hedging,
+      Duration initialHedgeDelay) {
+    this.stub = stub;
+    this.meterRegistry = meterRegistry;
+    this.deadline = deadline;
+    this.hedging = hedging;
+    this.initialHedgeDelay = initialHedgeDelay;
+
+    // Successful GetGreeting latencies drive the hedge delay, so keep a rolling p95 for them.
+    this.getLatency =
+        requestTimer(GreetingServiceGrpc.getGetGreetingMethod(), Status.Code.OK)
+            .publishPercentiles(0.95)
+            .register(meterRegistry);
+    this.getTimers =
+        requestTimers(GreetingServiceGrpc.getGetGreetingMethod(), getLatency, meterRegistry);
+    this.createTimers =
+        requestTimers(GreetingServiceGrpc.getCreateGreetingMethod(), null, meterRegistry);
+    this.hedgeCounter =
+        Counter.builder("grpc.client.hedged.requests")
+            .description("Number of hedged second attempts sent")
+            .tag("method", GreetingServiceGrpc.getGetGreetingMethod().getFullMethodName())
+            .register(meterRegistry);
+    this.hedgeScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("grpc-hedge").daemon().factory());
+  }
+
+  @Override
+  public CompletableFuture<Optional<Greeting>> fetchGreeting(UUID id) {
+    var request = GetGreetingRequest.newBuilder().setId(id.toString()).build();
+    Supplier<CompletableFuture<Optional<Greeting>>> attempt =
+        () ->
+            mapResult(
+                call(
+                    GreetingServiceGrpc.getGetGreetingMethod(),
+                    getTimers,
+                    s -> s.getGreeting(request)),
+                (response, ex) -> {
+                  if (ex == null) {
+                    return Optional.of(toGreeting(response));
+                  }
+                  if (Status.fromThrowable(ex).getCode() == Status.Code.NOT_FOUND) {
+                    logger.debug("External greeting not found id={}", id);
+                    return Optional.empty();
+                  }
+                  throw new RuntimeException("Failed to fetch greeting from external service", ex);
+                });
+    return hedging ? hedged(attempt) : attempt.get();
+  }
+
+  @Override
+  public CompletableFuture<Greeting> createRemoteGreeting(String name) {
+    var request = CreateGreetingRequest.newBuilder().setName(name).build();
+    return mapResult(
+        call(
+            GreetingServiceGrpc.getCreateGreetingMethod(),
+            createTimers,
+            s -> s.createGreeting(request)),
+        (response, ex) -> {
+          if (ex != null) {
+            throw new RuntimeException("Failed to create greeting on external service", ex);
+          }
+          return toGreeting(response);
+        });
+  }
+
+  @Override
+  public void close() {
+    hedgeScheduler.shutdownNow();
+  }
+
+  Duration hedgeDelay() {
+    var snapshot = getLatency.takeSnapshot();
+    if (snapshot.count() < MIN_HEDGE_SAMPLES || snapshot.percentileValues().length == 0) {
+      return initialHedgeDelay;
+    }
+    double p95 = snapshot.percentileValues()[0].value(TimeUnit.NANOSECONDS);
+    return p95 > 0 ? Duration.ofNanos((long) p95) : initialHedgeDelay;
+  }
+
+  private <T> CompletableFuture<T> hedged(Supplier<CompletableFuture<T>> attempt) {
+    var result = new CompletableFuture<T>();
+    List<CompletableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+    var pending = new AtomicInteger(1);
+    launch(attempt, result, attempts, pending);
+
+    var hedge =
+        hedgeScheduler.schedule(
+            () -> {
+              if (!result.isDone()) {
+                pending.incrementAndGet();
+                hedgeCounter.increment();
+                launch(attempt, result, attempts, pending);
+              }
+            },
+            hedgeDelay().toNanos(),
+            TimeUnit.NANOSECONDS);
+    result.whenComplete(
+        (value, ex) -> {
+          hedge.cancel(false);
+          attempts.forEach(a -> a.cancel(true));
+        });
+    return result;
+  }
+
+  /** The first attempt to succeed completes {@code result}; it only fails once all attempts do. */
+  private <T> void launch(
+      Supplier<CompletableFuture<T>> attempt,
+      CompletableFuture<T> result,
+      List<CompletableFuture<T>> attempts,
+      AtomicInteger pending) {
+    var future = attempt.get();
+    attempts.add(future);
+    if (result.isDone()) {
+      future.cancel(true);
+    }
+    future.whenComplete(
+        (value, ex) -> {
+          if (ex == null) {
+            result.complete(value);
+          } else if (pending.decrementAndGet() == 0) {
+            result.completeExceptionally(ex);
+          }
+        });
+  }
+
+  private <ReqT, RespT> CompletableFuture<RespT> call(
+      MethodDescriptor<ReqT, RespT> method,
+      Timer[] timersByStatus,
+      Function<GreetingServiceGrpc.GreetingServiceFutureStub, ListenableFuture<RespT>> invocation) {
+    var sample = Timer.start(meterRegistry);
+    var call = invocation.apply(stub.withDeadlineAfter(deadline.toNanos(), TimeUnit.NANOSECONDS));
+
+    var future = new CompletableFuture<RespT>();
+    future.whenComplete(
+        (response, ex) -> {
+          if (future.isCancelled()) {
+            call.cancel(true);
+          }
+        });
+    Futures.addCallback(
+        call,
+        new FutureCallback<>() {
+          @Override
+          public void onSuccess(RespT response) {
+            sample.stop(timersByStatus[Status.Code.OK.ordinal()]);
+            future.complete(response);
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            var code = Status.fromThrowable(t).getCode();
+            sample.stop(timersByStatus[code.ordinal()]);
+            if (code != Status.Code.NOT_FOUND && code != Status.Code.CANCELLED) {
+              logger.warn("gRPC call failed method={} status={}", method.getFullMethodName(), code);
+            }
+            future.completeExceptionally(t);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return future;
+  }
+
+  /** Like {@link CompletableFuture#handle}, but cancelling the result also cancels the call. */
+  private static <T, U> CompletableFuture<U> mapResult(
+      CompletableFuture<T> call, BiFunction<? super T, Throwable, ? extends U> mapper) {
+    CompletableFuture<U> mapped = call.handle(mapper);
+    mapped.whenComplete(
+        (value, ex) -> {
+          if (mapped.isCancelled()) {
+            call.cancel(true);
+          }
+        });
+    return mapped;
+  }
+
+  /** Indexed by {@link Status.Code#ordinal()}; {@code ok}, when given, is used for {@code OK}. */
+  private static Timer[] requestTimers(
+      MethodDescriptor<?, ?> method, Timer ok, MeterRegistry meterRegistry) {
+    var codes = Status.Code.values();
+    var timers = new Timer[codes.length];
+    for (var code : codes) {
+      timers[code.ordinal()] =
+          code == Status.Code.OK && ok != null
+              ? ok
+              : requestTimer(method, code).register(meterRegistry);
+    }
+    return timers;
+  }
+
+  private static Timer.Builder requestTimer(MethodDescriptor<?, ?> method, Status.Code status) {
+    return Timer.builder("grpc.client.requests")
+        .description("gRPC client request duration")
+        .tag("method", method.getFullMethodName())
+        .tag("status", status.name());
+  }
+
+  private static Greeting toGreeting(GreetingResponse response) {
+    return new Greeting(UUID.fromString(response.getId()), response.getMessage());
+  }
+}
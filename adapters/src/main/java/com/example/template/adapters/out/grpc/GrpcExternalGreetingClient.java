@@ -11,9 +11,12 @@ import java.util.UUID;
 import net.devh.boot.grpc.client.inject.GrpcClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+/** Created on first use: the stub and its channel are only set up if something calls out. */
 @Component
+@Lazy
 public class GrpcExternalGreetingClient implements ExternalGreetingClient {
 
   private static final Logger logger = LoggerFactory.getLogger(GrpcExternalGreetingClient.class);
@@ -3,13 +3,26 @@ package com.example.template.adapters.out.messaging;
 import com.example.template.domain.events.GreetingCreatedEvent;
 import com.example.template.domain.ports.out.GreetingEventPublisher;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.stereotype.Component;
+import org.springframework.kafka.support.SendResult;
 
-@Component
+/**
+ * Publishes greeting events to Kafka with at most {@code maxInFlight} unacknowledged sends. A send
+ * waits up to {@code enqueueTimeout} for one to finish, then fails with {@link
+ * ProducerBackPressureException} instead of blocking inside the producer for {@code max.block.ms}
+ * until {@code buffer.memory} frees up.
+ */
 public class KafkaGreetingEventPublisher implements GreetingEventPublisher {
 
   private static final Logger logger = LoggerFactory.getLogger(KafkaGreetingEventPublisher.class);
@@ -18,10 +31,20 @@ public class KafkaGreetingEventPublisher implements GreetingEventPublisher {
   private final KafkaTemplate<String, GreetingCreatedEvent> kafkaTemplate;
   private final Counter publishSuccessCounter;
   private final Counter publishFailureCounter;
+  private final Counter backPressureCounter;
+  private final Semaphore inFlight;
+  private final int maxInFlight;
+  private final Duration enqueueTimeout;
 
   public KafkaGreetingEventPublisher(
-      KafkaTemplate<String, GreetingCreatedEvent> kafkaTemplate, MeterRegistry meterRegistry) {
+      KafkaTemplate<String, GreetingCreatedEvent> kafkaTemplate,
+      MeterRegistry meterRegistry,
+      int maxInFlight,
+      Duration enqueueTimeout) {
     this.kafkaTemplate = kafkaTemplate;
+    this.inFlight = new Semaphore(maxInFlight);
+    this.maxInFlight = maxInFlight;
+    this.enqueueTimeout = enqueueTimeout;
 
     this.publishSuccessCounter =
         Counter.builder("kafka.greeting.events.published")
@@ -35,32 +58,118 @@ public class KafkaGreetingEventPublisher implements GreetingEventPublisher {
             .tag("topic", TOPIC)
             .tag("outcome", "failure")
             .register(meterRegistry);
+    this.backPressureCounter =
+        Counter.builder("kafka.greeting.events.published")
+            .description("Greeting events not sent because too many sends were in flight")
+            .tag("topic", TOPIC)
+            .tag("outcome", "backpressure")
+            .register(meterRegistry);
+    Gauge.builder(
+            "kafka.greeting.events.publish.in.flight",
+            inFlight,
+            permits -> maxInFlight - permits.availablePermits())
+        .description("Greeting event sends not yet acknowledged by the broker")
+        .tag("topic", TOPIC)
+        .register(meterRegistry);
   }
 
+  /**
+   * Starts the send without waiting for the broker. Throws {@link ProducerBackPressureException}
+   * when it cannot start; later failures are counted and logged only.
+   */
   @Override
   public void publish(GreetingCreatedEvent event) {
     logger.info(
         "Publishing greeting event eventId={} greetingId={}", event.eventId(), event.greetingId());
-    kafkaTemplate
-        .send(TOPIC, event.greetingId().toString(), event)
-        .whenComplete(
-            (result, ex) -> {
-              if (ex != null) {
-                publishFailureCounter.increment();
-                logger.error(
-                    "Failed to publish event eventId={} greetingId={}: {}",
-                    event.eventId(),
-                    event.greetingId(),
-                    ex.getMessage());
-              } else {
-                publishSuccessCounter.increment();
-                logger.debug(
-                    "Event published eventId={} greetingId={} partition={} offset={}",
-                    event.eventId(),
-                    event.greetingId(),
-                    result.getRecordMetadata().partition(),
-                    result.getRecordMetadata().offset());
-              }
-            });
+    throwIfFailed(send(event));
+  }
+
+  /** Like {@link #publish}, for each event; throws for the first that cannot start. */
+  @Override
+  public void publishAll(List<GreetingCreatedEvent> events) {
+    var sends = sendEach(events);
+    if (!sends.isEmpty()) {
+      throwIfFailed(sends.getLast());
+    }
+  }
+
+  /**
+   * Sends all events without waiting between them, so the producer can batch them. The returned
+   * future completes once every send has been acknowledged, or fails if any send failed. Sending
+   * stops at the first send that fails straight away, as the whole batch fails anyway.
+   */
+  public CompletableFuture<Void> sendAll(List<GreetingCreatedEvent> events) {
+    return CompletableFuture.allOf(sendEach(events).toArray(CompletableFuture<?>[]::new));
+  }
+
+  private List<CompletableFuture<?>> sendEach(List<GreetingCreatedEvent> events) {
+    logger.debug("Publishing {} greeting events", events.size());
+    var sends = new ArrayList<CompletableFuture<?>>(events.size());
+    for (var event : events) {
+      var sent = send(event);
+      sends.add(sent);
+      if (sent.isCompletedExceptionally()) {
+        break;
+      }
+    }
+    return sends;
+  }
+
+  private static void throwIfFailed(CompletableFuture<?> sent) {
+    if (!sent.isCompletedExceptionally()) {
+      return;
+    }
+    try {
+      sent.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private CompletableFuture<SendResult<String, GreetingCreatedEvent>> send(
+      GreetingCreatedEvent event) {
+    if (!acquire()) {
+      backPressureCounter.increment();
+      return CompletableFuture.failedFuture(new ProducerBackPressureException(maxInFlight));
+    }
+    CompletableFuture<SendResult<String, GreetingCreatedEvent>> sent;
+    try {
+      sent = kafkaTemplate.send(TOPIC, event.greetingId().toString(), event);
+    } catch (RuntimeException e) {
+      inFlight.release();
+      throw e;
+    }
+    return sent.whenComplete(
+        (result, ex) -> {
+          inFlight.release();
+          if (ex != null) {
+            publishFailureCounter.increment();
+            logger.error(
+                "Failed to publish event eventId={} greetingId={}: {}",
+                event.eventId(),
+                event.greetingId(),
+                ex.getMessage());
+          } else {
+            publishSuccessCounter.increment();
+            logger.debug(
+                "Event published eventId={} greetingId={} partition={} offset={}",
+                event.eventId(),
+                event.greetingId(),
+                result.getRecordMetadata().partition(),
+                result.getRecordMetadata().offset());
+          }
+        });
+  }
+
+  private boolean acquire() {
+    try {
+      return inFlight.tryAcquire(enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
   }
 }
@@ -0,0 +1,8 @@
+package com.example.template.adapters.out.messaging;
+
+/** Thrown instead of sending while the configured number of sends is still unacknowledged. */
+public class ProducerBackPressureException extends RuntimeException {
+  public ProducerBackPressureException(int maxInFlight) {
+    super(maxInFlight + " greeting events already awaiting acknowledgement");
+  }
+}
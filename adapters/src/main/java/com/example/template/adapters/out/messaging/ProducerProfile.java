@@ -0,0 +1,53 @@
+package com.example.template.adapters.out.messaging;
+
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+/**
+ * Producer settings for {@code greeting.kafka.producer.profile}. All profiles keep {@code acks=all}
+ * and idempotence, so none trades durability or ordering for speed.
+ */
+public enum ProducerProfile {
+  /** Kafka's defaults: every send goes out at once, uncompressed. */
+  DEFAULT(Map.of()),
+
+  /**
+   * Waits up to 20 ms to fill 256 KB batches and compresses them with zstd. Fewer, larger requests
+   * at high create rates. Batches that do not fill up wait the full 20 ms.
+   */
+  THROUGHPUT(
+      Map.of(
+          ProducerConfig.LINGER_MS_CONFIG,
+          20,
+          ProducerConfig.BATCH_SIZE_CONFIG,
+          256 * 1024,
+          ProducerConfig.COMPRESSION_TYPE_CONFIG,
+          "zstd",
+          ProducerConfig.BUFFER_MEMORY_CONFIG,
+          64L * 1024 * 1024)),
+
+  /**
+   * Sends without lingering and compresses with lz4, which costs little CPU. Batches still form
+   * while earlier requests are in flight.
+   */
+  LATENCY(
+      Map.of(
+          ProducerConfig.LINGER_MS_CONFIG,
+          0,
+          ProducerConfig.BATCH_SIZE_CONFIG,
+          32 * 1024,
+          ProducerConfig.COMPRESSION_TYPE_CONFIG,
+          "lz4",
+          ProducerConfig.BUFFER_MEMORY_CONFIG,
+          32L * 1024 * 1024));
+
+  private final Map<String, Object> settings;
+
+  ProducerProfile(Map<String, Object> settings) {
+    this.settings = settings;
+  }
+
+  public Map<String, Object> settings() {
+    return settings;
+  }
+}
@@ -0,0 +1,112 @@
+package com.example.template.adapters.out.outbox;
+
+import com.example.template.adapters.out.messaging.KafkaGreetingEventPublisher;
+import com.example.template.domain.events.GreetingCreatedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Drains the outbox to Kafka. Each batch is claimed with a lease, sent, and deleted once every send
+ * is acknowledged. Claiming and deleting are single statements, so no connection, transaction or
+ * row lock is held while waiting for Kafka. A failed batch is released and retried on the next run.
+ * If the relay dies mid-batch, another one picks the rows up when the lease runs out, so delivery
+ * is at-least-once.
+ */
+public class GreetingOutboxRelay {
+
+  private static final Logger logger = LoggerFactory.getLogger(GreetingOutboxRelay.class);
+
+  private final JdbcGreetingOutbox outbox;
+  private final KafkaGreetingEventPublisher publisher;
+  private final int batchSize;
+  private final Duration sendTimeout;
+  private final Duration claimLease;
+  private final DistributionSummary batchSizeSummary;
+  private final Timer lagTimer;
+
+  public GreetingOutboxRelay(
+      JdbcGreetingOutbox outbox,
+      KafkaGreetingEventPublisher publisher,
+      MeterRegistry meterRegistry,
+      int batchSize,
+      Duration sendTimeout) {
+    this.outbox = outbox;
+    this.publisher = publisher;
+    this.batchSize = batchSize;
+    this.sendTimeout = sendTimeout;
+    // Outlasts a batch that takes the whole send timeout, so live claims are never taken over.
+    this.claimLease = sendTimeout.multipliedBy(2);
+
+    this.batchSizeSummary =
+        DistributionSummary.builder("outbox.relay.batch.size")
+            .description("Number of outbox events relayed per batch")
+            .register(meterRegistry);
+    this.lagTimer =
+        Timer.builder("outbox.relay.lag")
+            .description("Time from event creation until it was relayed to Kafka")
+            .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${greeting.outbox.relay.poll-interval-ms:200}")
+  public void relayPending() {
+    try {
+      int relayed;
+      do {
+        relayed = relayBatch();
+      } while (relayed == batchSize);
+    } catch (Exception e) {
+      logger.error("Outbox relay failed, will retry: {}", e.getMessage(), e);
+    }
+  }
+
+  int relayBatch() {
+    var entries = outbox.claimNextBatch(batchSize, claimLease);
+    if (entries.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      awaitSends(entries.stream().map(OutboxEntry::event).toList());
+    } catch (RuntimeException e) {
+      release(entries, e);
+      throw e;
+    }
+    outbox.delete(entries);
+
+    var now = Instant.now();
+    batchSizeSummary.record(entries.size());
+    entries.forEach(entry -> lagTimer.record(Duration.between(entry.event().createdAt(), now)));
+    logger.debug("Relayed {} outbox events", entries.size());
+    return entries.size();
+  }
+
+  private void release(List<OutboxEntry> entries, RuntimeException cause) {
+    try {
+      outbox.release(entries);
+    } catch (RuntimeException e) {
+      // The lease still runs out, so the rows are retried a little later.
+      cause.addSuppressed(e);
+    }
+  }
+
+  private void awaitSends(List<GreetingCreatedEvent> events) {
+    try {
+      publisher.sendAll(events).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while relaying outbox events", e);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new IllegalStateException("Failed to relay outbox events", e);
+    }
+  }
+}
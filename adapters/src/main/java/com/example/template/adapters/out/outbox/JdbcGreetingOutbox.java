@@ -0,0 +1,113 @@
+package com.example.template.adapters.out.outbox;
+
+import com.example.template.domain.events.GreetingCreatedEvent;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JdbcGreetingOutbox {
+  private static final String INSERT_SQL =
+      """
+      INSERT INTO greeting_outbox (event_id, greeting_id, message, created_at)
+      VALUES (:eventId, :greetingId, :message, :createdAt)
+      """;
+
+  private static final String CLAIM_NEXT_BATCH_SQL =
+      """
+      UPDATE greeting_outbox
+      SET claimed_until = now() + :leaseMillis * INTERVAL '1 millisecond'
+      WHERE id IN (
+        SELECT id
+        FROM greeting_outbox
+        WHERE claimed_until IS NULL OR claimed_until < now()
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED)
+      RETURNING id, event_id, greeting_id, message, created_at
+      """;
+
+  private static final String RELEASE_SQL =
+      "UPDATE greeting_outbox SET claimed_until = NULL WHERE id IN (:ids)";
+
+  private static final String DELETE_SQL = "DELETE FROM greeting_outbox WHERE id IN (:ids)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public JdbcGreetingOutbox(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** Appends an event; joins the caller's transaction when one is active. */
+  public void append(GreetingCreatedEvent event) {
+    jdbcTemplate.update(INSERT_SQL, parameters(event));
+  }
+
+  /** Appends all events as one JDBC batch; joins the caller's transaction when one is active. */
+  public void appendAll(List<GreetingCreatedEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        INSERT_SQL,
+        events.stream().map(JdbcGreetingOutbox::parameters).toArray(SqlParameterSource[]::new));
+  }
+
+  /**
+   * Claims the oldest unclaimed entries for {@code lease} and returns them in id order. The claim
+   * is a single statement, so no lock is held once it returns. Rows claimed by another relay are
+   * skipped until their lease runs out, which lets several instances drain the outbox concurrently
+   * and hands the rows of a crashed relay to the next one.
+   */
+  public List<OutboxEntry> claimNextBatch(int limit, Duration lease) {
+    return jdbcTemplate
+        .query(
+            CLAIM_NEXT_BATCH_SQL,
+            Map.of("limit", limit, "leaseMillis", lease.toMillis()),
+            (rs, rowNum) ->
+                new OutboxEntry(
+                    rs.getLong("id"),
+                    new GreetingCreatedEvent(
+                        rs.getObject("event_id", UUID.class),
+                        rs.getObject("greeting_id", UUID.class),
+                        rs.getString("message"),
+                        rs.getTimestamp("created_at").toInstant())))
+        .stream()
+        .sorted(Comparator.comparingLong(OutboxEntry::id))
+        .toList();
+  }
+
+  /** Gives up the claim on entries that could not be relayed, so the next run retries them. */
+  public void release(List<OutboxEntry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.update(RELEASE_SQL, ids(entries));
+  }
+
+  public void delete(List<OutboxEntry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.update(DELETE_SQL, ids(entries));
+  }
+
+  private static Map<String, List<Long>> ids(List<OutboxEntry> entries) {
+    return Map.of("ids", entries.stream().map(OutboxEntry::id).toList());
+  }
+
+  private static MapSqlParameterSource parameters(GreetingCreatedEvent event) {
+    return new MapSqlParameterSource()
+        .addValue("eventId", event.eventId())
+        .addValue("greetingId", event.greetingId())
+        .addValue("message", event.message())
+        .addValue("createdAt", Timestamp.from(event.createdAt()));
+  }
+}
@@ -0,0 +1,5 @@
+package com.example.template.adapters.out.outbox;
+
+import com.example.template.domain.events.GreetingCreatedEvent;
+
+public record OutboxEntry(long id, GreetingCreatedEvent event) {}
@@ -0,0 +1,42 @@
+package com.example.template.adapters.out.outbox;
+
+import com.example.template.domain.events.GreetingCreatedEvent;
+import com.example.template.domain.ports.out.GreetingEventPublisher;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records events in the outbox table instead of sending them to Kafka. When called inside the
+ * transaction that saves the greeting, the event is committed atomically with it and is delivered
+ * later by {@link GreetingOutboxRelay}.
+ */
+@Component
+@Primary
+public class OutboxGreetingEventPublisher implements GreetingEventPublisher {
+
+  private static final Logger logger = LoggerFactory.getLogger(OutboxGreetingEventPublisher.class);
+
+  private final JdbcGreetingOutbox outbox;
+
+  public OutboxGreetingEventPublisher(JdbcGreetingOutbox outbox) {
+    this.outbox = outbox;
+  }
+
+  @Override
+  public void publish(GreetingCreatedEvent event) {
+    outbox.append(event);
+    logger.debug(
+        "Queued greeting event in outbox eventId={} greetingId={}",
+        event.eventId(),
+        event.greetingId());
+  }
+
+  @Override
+  public void publishAll(List<GreetingCreatedEvent> events) {
+    outbox.appendAll(events);
+    logger.debug("Queued {} greeting events in outbox", events.size());
+  }
+}
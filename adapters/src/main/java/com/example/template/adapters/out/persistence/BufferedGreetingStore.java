@@ -0,0 +1,318 @@
+package com.example.template.adapters.out.persistence;
+
+import com.example.template.domain.Greeting;
+import com.example.template.domain.ports.out.GreetingStore;
+import com.example.template.domain.ports.out.TransactionRunner;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Write-behind {@link GreetingStore}. Saves are queued in a bounded buffer and a single flusher
+ * thread writes them to the delegate with {@code saveAll}. It flushes once {@code batchSize}
+ * greetings are queued, or once the oldest has waited {@code maxDelay}.
+ *
+ * <p>Durability: {@link #saveAsync} completes when the greeting's batch has committed. {@link
+ * #save} waits up to {@code commitTimeout} for that commit unless the store was created with {@code
+ * waitForCommit=false}. A save that times out may still commit later. With {@code
+ * waitForCommit=false} a greeting acknowledged to the caller may still be lost if the process dies
+ * before the flush.
+ *
+ * <p>The batch commits in the flusher's transaction, together with the work each caller passed to
+ * {@link #save(Greeting, Runnable)}, so a greeting and its outbox event commit or fail together.
+ * Saves are therefore rejected inside a caller's transaction: it would hold a connection while
+ * waiting for the flusher to get one, and commit apart from the greeting. If the batch fails, each
+ * write is retried in a transaction of its own, so only the bad ones fail.
+ */
+public class BufferedGreetingStore implements GreetingStore, AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(BufferedGreetingStore.class);
+  private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final GreetingStore delegate;
+  private final TransactionRunner transactions;
+  private final BlockingQueue<PendingWrite> queue;
+  private final ConcurrentHashMap<UUID, Greeting> pending = new ConcurrentHashMap<>();
+  private final int batchSize;
+  private final Duration maxDelay;
+  private final Duration enqueueTimeout;
+  private final Duration commitTimeout;
+  private final boolean waitForCommit;
+  private final DistributionSummary flushSize;
+  private final Timer flushLatency;
+  private final Thread flusher;
+  private volatile boolean running = true;
+
+  public BufferedGreetingStore(
+      GreetingStore delegate,
+      TransactionRunner transactions,
+      MeterRegistry meterRegistry,
+      int capacity,
+      int batchSize,
+      Duration maxDelay,
+      Duration enqueueTimeout,
+      Duration commitTimeout,
+      boolean waitForCommit) {
+    this.delegate = delegate;
+    this.transactions = transactions;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.batchSize = batchSize;
+    this.maxDelay = maxDelay;
+    this.enqueueTimeout = enqueueTimeout;
+    this.commitTimeout = commitTimeout;
+    this.waitForCommit = waitForCommit;
+
+    this.flushSize =
+        DistributionSummary.builder("greeting.store.flush.size")
+            .description("Number of greetings written per flush")
+            .register(meterRegistry);
+    this.flushLatency =
+        Timer.builder("greeting.store.flush.latency")
+            .description("Time taken to write and commit one flush")
+            .register(meterRegistry);
+    Gauge.builder("greeting.store.queue.depth", queue, BlockingQueue::size)
+        .description("Number of greetings waiting to be flushed")
+        .register(meterRegistry);
+
+    this.flusher = Thread.ofPlatform().name("greeting-store-flusher").daemon().start(this::run);
+  }
+
+  @Override
+  public void save(Greeting greeting) {
+    save(greeting, () -> {});
+  }
+
+  @Override
+  public void save(Greeting greeting, Runnable inSameTransaction) {
+    var committed = enqueue(greeting, inSameTransaction);
+    if (waitForCommit) {
+      try {
+        committed.get(commitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+      } catch (ExecutionException e) {
+        throw e.getCause() instanceof RuntimeException cause
+            ? cause
+            : new IllegalStateException("Buffered greeting write failed", e.getCause());
+      } catch (TimeoutException e) {
+        throw new IllegalStateException(
+            "Buffered greeting write did not commit within " + commitTimeout, e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for greeting commit", e);
+      }
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> saveAsync(Greeting greeting) {
+    return enqueue(greeting, () -> {});
+  }
+
+  @Override
+  public void saveAll(Collection<Greeting> greetings) {
+    delegate.saveAll(greetings);
+  }
+
+  /** Bulk saves are already batched, so they are written directly in the store's transaction. */
+  @Override
+  public void saveAll(Collection<Greeting> greetings, Runnable inSameTransaction) {
+    transactions.inTransaction(
+        () -> {
+          delegate.saveAll(greetings);
+          inSameTransaction.run();
+        });
+  }
+
+  @Override
+  public Optional<Greeting> findById(UUID id) {
+    var queued = pending.get(id);
+    return queued != null ? Optional.of(queued) : delegate.findById(id);
+  }
+
+  @Override
+  public Optional<Greeting> recheckMiss(UUID id) {
+    var queued = pending.get(id);
+    return queued != null ? Optional.of(queued) : delegate.recheckMiss(id);
+  }
+
+  @Override
+  public List<Greeting> findAllById(Collection<UUID> ids) {
+    var found = new ArrayList<Greeting>();
+    var misses = new ArrayList<UUID>();
+    for (var id : ids) {
+      var queued = pending.get(id);
+      if (queued != null) {
+        found.add(queued);
+      } else {
+        misses.add(id);
+      }
+    }
+    if (!misses.isEmpty()) {
+      found.addAll(delegate.findAllById(misses));
+    }
+    return found;
+  }
+
+  @Override
+  public List<Greeting> findAfter(UUID afterId, int limit) {
+    return delegate.findAfter(afterId, limit);
+  }
+
+  @Override
+  public void forEach(Consumer<? super Greeting> action) {
+    delegate.forEach(action);
+  }
+
+  /** Stops accepting writes, flushes what is queued and waits for the flusher to finish. */
+  @Override
+  public void close() throws InterruptedException {
+    running = false;
+    flusher.join(Duration.ofSeconds(30));
+    var stranded = new ArrayList<PendingWrite>();
+    queue.drainTo(stranded);
+    stranded.forEach(
+        write -> complete(write, new RejectedExecutionException("Greeting store closed")));
+  }
+
+  private CompletableFuture<Void> enqueue(Greeting greeting, Runnable inSameTransaction) {
+    if (!running) {
+      throw new RejectedExecutionException("Greeting store is shut down");
+    }
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new IllegalStateException(
+          "Write-behind greeting store commits in its own transaction; call it outside one");
+    }
+    var write = new PendingWrite(greeting, inSameTransaction, new CompletableFuture<>());
+    pending.put(greeting.id(), greeting);
+    try {
+      if (!queue.offer(write, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+        pending.remove(greeting.id());
+        throw new RejectedExecutionException("Greeting write buffer is full");
+      }
+    } catch (InterruptedException e) {
+      pending.remove(greeting.id());
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted while queueing greeting write", e);
+    }
+    // Shut down while queueing: the flusher or close() may already have drained the queue.
+    if (!running && queue.remove(write)) {
+      pending.remove(greeting.id());
+      throw new RejectedExecutionException("Greeting store is shut down");
+    }
+    return write.committed();
+  }
+
+  private void run() {
+    var batch = new ArrayList<PendingWrite>(batchSize);
+    try {
+      while (running || !queue.isEmpty()) {
+        try {
+          var first = queue.poll(POLL_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+          if (first == null) {
+            continue;
+          }
+          batch.add(first);
+          long deadline = System.nanoTime() + maxDelay.toNanos();
+          while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+              break;
+            }
+            // Wake up periodically so close() does not wait out a long maxDelay.
+            var next = queue.poll(Math.min(remaining, POLL_INTERVAL_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+              batch.add(next);
+            }
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          running = false;
+          queue.drainTo(batch);
+        }
+        if (!batch.isEmpty()) {
+          flush(batch);
+          batch.clear();
+        }
+      }
+    } finally {
+      // Reached with writes left only if the flusher dies, e.g. on an Error: fail them rather than
+      // leave their callers waiting.
+      running = false;
+      queue.drainTo(batch);
+      batch.forEach(
+          write ->
+              complete(write, new RejectedExecutionException("Greeting store flusher stopped")));
+    }
+  }
+
+  private void flush(List<PendingWrite> batch) {
+    var greetings = batch.stream().map(PendingWrite::greeting).toList();
+    long start = System.nanoTime();
+    try {
+      transactions.inTransaction(
+          () -> {
+            delegate.saveAll(greetings);
+            batch.forEach(write -> write.inSameTransaction().run());
+          });
+    } catch (RuntimeException e) {
+      if (batch.size() == 1) {
+        logger.error("Failed to flush buffered greeting {}", greetings.get(0).id(), e);
+        complete(batch.get(0), e);
+      } else {
+        logger.warn("Failed to flush {} buffered greetings, retrying one by one", batch.size(), e);
+        batch.forEach(this::flushOne);
+      }
+      return;
+    }
+    flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    flushSize.record(batch.size());
+    batch.forEach(write -> complete(write, null));
+  }
+
+  /** Writes one greeting in a transaction of its own, so a bad write fails only its own caller. */
+  private void flushOne(PendingWrite write) {
+    RuntimeException failure = null;
+    try {
+      transactions.inTransaction(
+          () -> {
+            delegate.saveAll(List.of(write.greeting()));
+            write.inSameTransaction().run();
+          });
+    } catch (RuntimeException e) {
+      logger.error("Failed to flush buffered greeting {}", write.greeting().id(), e);
+      failure = e;
+    }
+    complete(write, failure);
+  }
+
+  private void complete(PendingWrite write, RuntimeException failure) {
+    pending.remove(write.greeting().id());
+    if (failure == null) {
+      write.committed().complete(null);
+    } else {
+      write.committed().completeExceptionally(failure);
+    }
+  }
+
+  private record PendingWrite(
+      Greeting greeting, Runnable inSameTransaction, CompletableFuture<Void> committed) {}
+}
@@ -1,14 +1,19 @@
 package com.example.template.adapters.out.persistence;
 
+import com.example.template.domain.Greeting;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.util.UUID;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "greetings")
-public class GreetingEntity {
+public class GreetingEntity implements Persistable<UUID> {
   @Id
   @Column(name = "id", nullable = false)
   private UUID id;
@@ -16,6 +21,12 @@ public class GreetingEntity {
   @Column(name = "message", nullable = false, length = 512)
   private String message;
 
+  /**
+   * Ids are assigned by the application, so Spring Data cannot tell new entities from detached ones
+   * and would merge (SELECT, then INSERT). Tracking it here lets {@code save} persist directly.
+   */
+  @Transient private boolean isNew = true;
+
   protected GreetingEntity() {}
 
   public GreetingEntity(UUID id, String message) {
@@ -23,10 +34,30 @@ public class GreetingEntity {
     this.message = message;
   }
 
+  public static GreetingEntity from(Greeting greeting) {
+    return new GreetingEntity(greeting.id(), greeting.message());
+  }
+
+  public Greeting toDomain() {
+    return new Greeting(this.id, this.message);
+  }
+
+  @Override
   public UUID getId() {
     return this.id;
   }
 
+  @Override
+  public boolean isNew() {
+    return this.isNew;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
+  }
+
   public String getMessage() {
     return this.message;
   }
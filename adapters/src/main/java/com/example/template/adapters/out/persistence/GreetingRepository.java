@@ -1,6 +1,12 @@
 package com.example.template.adapters.out.persistence;
 
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface GreetingRepository extends JpaRepository<GreetingEntity, UUID> {}
+public interface GreetingRepository extends JpaRepository<GreetingEntity, UUID> {
+  List<GreetingEntity> findAllByOrderByIdAsc(Limit limit);
+
+  List<GreetingEntity> findByIdGreaterThanOrderByIdAsc(UUID afterId, Limit limit);
+}
@@ -2,28 +2,118 @@ package com.example.template.adapters.out.persistence;
 
 import com.example.template.domain.Greeting;
 import com.example.template.domain.ports.out.GreetingStore;
+import java.sql.ResultSet;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class JpaGreetingStore implements GreetingStore {
+  private static final String INSERT_SQL =
+      "INSERT INTO greetings (id, message) VALUES (:id, :message)";
+  private static final String SELECT_ALL_SQL = "SELECT id, message FROM greetings ORDER BY id";
+  private static final int FETCH_SIZE = 1000;
+
   private final GreetingRepository greetingRepository;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final ReplicaRoutingDataSource replicaRouting;
 
-  public JpaGreetingStore(GreetingRepository greetingRepository) {
+  public JpaGreetingStore(
+      GreetingRepository greetingRepository,
+      NamedParameterJdbcTemplate jdbcTemplate,
+      ObjectProvider<ReplicaRoutingDataSource> replicaRouting) {
     this.greetingRepository = greetingRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.replicaRouting = replicaRouting.getIfAvailable();
   }
 
   @Override
   public void save(Greeting greeting) {
-    var entity = new GreetingEntity(greeting.id(), greeting.message());
-    this.greetingRepository.save(entity);
+    this.greetingRepository.save(GreetingEntity.from(greeting));
+  }
+
+  /**
+   * Inserts all greetings as one JDBC batch. The entities are never loaded into the persistence
+   * context, so this skips the per-row lookup that {@code save} does for assigned ids.
+   */
+  @Override
+  public void saveAll(Collection<Greeting> greetings) {
+    if (greetings.isEmpty()) {
+      return;
+    }
+    this.jdbcTemplate.batchUpdate(
+        INSERT_SQL,
+        greetings.stream()
+            .map(
+                greeting ->
+                    new MapSqlParameterSource()
+                        .addValue("id", greeting.id())
+                        .addValue("message", greeting.message()))
+            .toArray(SqlParameterSource[]::new));
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Optional<Greeting> findById(UUID id) {
-    return greetingRepository
-        .findById(id)
-        .map(entity -> new Greeting(entity.getId(), entity.getMessage()));
+    return greetingRepository.findById(id).map(GreetingEntity::toDomain);
+  }
+
+  /** Reads the primary when lookups go to replicas; otherwise {@link #findById} was the primary. */
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<Greeting> recheckMiss(UUID id) {
+    if (replicaRouting == null) {
+      return Optional.empty();
+    }
+    return replicaRouting.readFromPrimary(
+        () -> greetingRepository.findById(id).map(GreetingEntity::toDomain));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Greeting> findAllById(Collection<UUID> ids) {
+    return greetingRepository.findAllById(ids).stream().map(GreetingEntity::toDomain).toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Greeting> findAfter(UUID afterId, int limit) {
+    var entities =
+        afterId == null
+            ? greetingRepository.findAllByOrderByIdAsc(Limit.of(limit))
+            : greetingRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    return entities.stream().map(GreetingEntity::toDomain).toList();
+  }
+
+  /**
+   * Reads through a forward-only cursor, {@code FETCH_SIZE} rows per round trip. PostgreSQL only
+   * uses a cursor for a fetch size when autocommit is off, hence the transaction.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public void forEach(Consumer<? super Greeting> action) {
+    RowCallbackHandler handler =
+        rs -> action.accept(new Greeting(rs.getObject("id", UUID.class), rs.getString("message")));
+    this.jdbcTemplate
+        .getJdbcOperations()
+        .query(
+            connection -> {
+              var statement =
+                  connection.prepareStatement(
+                      SELECT_ALL_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+              statement.setFetchSize(FETCH_SIZE);
+              return statement;
+            },
+            handler);
   }
 }
@@ -0,0 +1,184 @@
+package com.example.template.adapters.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for read-only transactions to a replica and everything else to the primary.
+ * Wrap it in a {@code LazyConnectionDataSourceProxy} so the connection is picked after the
+ * transaction's read-only flag has been set.
+ *
+ * <p>A replica whose replay lag exceeds {@code maxLag} is skipped until it catches up. After a
+ * write transaction, reads on the same thread stay on the primary, so a request can read what it
+ * just wrote. The pin ends with the request, through {@link #releasePrimaryPin()}, and at the
+ * latest after {@code maxLag} on threads that serve no requests, such as Kafka listeners.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+  public static final String PRIMARY = "primary";
+
+  private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+  private static final String LAG_SQL =
+      """
+      SELECT CASE
+        WHEN NOT pg_is_in_recovery() THEN 0
+        WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+      END
+      """;
+  private final List<Replica> replicas;
+  private final Duration maxLag;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final ThreadLocal<Long> primaryPinnedUntil = new ThreadLocal<>();
+  private final ThreadLocal<Boolean> readingPrimary = new ThreadLocal<>();
+  private final Counter fallbackCounter;
+
+  public ReplicaRoutingDataSource(
+      DataSource primary,
+      Map<String, DataSource> replicas,
+      Duration maxLag,
+      MeterRegistry meterRegistry) {
+    var targets = new HashMap<Object, Object>(replicas);
+    targets.put(PRIMARY, primary);
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+
+    this.maxLag = maxLag;
+    this.replicas =
+        replicas.entrySet().stream()
+            .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+            .toList();
+    for (var replica : this.replicas) {
+      TimeGauge.builder(
+              "greeting.datasource.replica.lag", replica, TimeUnit.MILLISECONDS, r -> r.lagMillis)
+          .description("Replication replay lag of the replica")
+          .tag("pool", replica.name)
+          .register(meterRegistry);
+    }
+    this.fallbackCounter =
+        Counter.builder("greeting.datasource.replica.fallbacks")
+            .description("Read-only connections sent to the primary because no replica was usable")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    super.afterPropertiesSet();
+    checkReplicaLag();
+  }
+
+  /** Closes the primary and replica pools. */
+  @Override
+  public void close() throws Exception {
+    for (var target : getResolvedDataSources().values()) {
+      if (target instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+
+  /**
+   * Ends the current thread's read-your-writes pin. Called when a request ends, so the next request
+   * handled by this thread reads from a replica again.
+   */
+  public void releasePrimaryPin() {
+    primaryPinnedUntil.remove();
+  }
+
+  /**
+   * Runs {@code read} with the connections it opens taken from the primary, even in read-only
+   * transactions. Unlike a write, this does not pin later reads to the primary.
+   */
+  public <T> T readFromPrimary(Supplier<T> read) {
+    readingPrimary.set(Boolean.TRUE);
+    try {
+      return read.get();
+    } finally {
+      readingPrimary.remove();
+    }
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (TransactionSynchronizationManager.isActualTransactionActive()) {
+        primaryPinnedUntil.set(System.nanoTime() + maxLag.toNanos());
+      }
+      return PRIMARY;
+    }
+
+    if (readingPrimary.get() != null) {
+      return PRIMARY;
+    }
+    var pinnedUntil = primaryPinnedUntil.get();
+    if (pinnedUntil != null) {
+      if (System.nanoTime() - pinnedUntil < 0) {
+        return PRIMARY;
+      }
+      primaryPinnedUntil.remove();
+    }
+
+    for (int i = 0; i < replicas.size(); i++) {
+      var replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+      if (replica.healthy) {
+        return replica.name;
+      }
+    }
+    fallbackCounter.increment();
+    return PRIMARY;
+  }
+
+  @Scheduled(fixedDelayString = "${greeting.datasource.replicas.lag-check-interval-ms:1000}")
+  public void checkReplicaLag() {
+    for (var replica : replicas) {
+      try (var connection = replica.dataSource.getConnection();
+          var statement = connection.createStatement();
+          var resultSet = statement.executeQuery(LAG_SQL)) {
+        resultSet.next();
+        replica.lagMillis = resultSet.getLong(1);
+        boolean healthy = replica.lagMillis <= maxLag.toMillis();
+        if (healthy && !replica.healthy) {
+          logger.info("Replica {} is in rotation, lag={}ms", replica.name, replica.lagMillis);
+        } else if (!healthy && replica.healthy) {
+          logger.warn(
+              "Replica {} lags by {}ms, sending its reads to the primary",
+              replica.name,
+              replica.lagMillis);
+        }
+        replica.healthy = healthy;
+      } catch (SQLException e) {
+        if (replica.healthy) {
+          logger.warn("Replica {} is unreachable: {}", replica.name, e.getMessage());
+        }
+        replica.healthy = false;
+      }
+    }
+  }
+
+  private static final class Replica {
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy;
+    private volatile long lagMillis;
+
+    private Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.template.adapters.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.template.domain.Greeting;
+import com.example.template.domain.events.GreetingCreatedEvent;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+class GreetingBinaryCodecTest {
+  private final GreetingCreatedEvent event =
+      new GreetingCreatedEvent(
+          UUID.randomUUID(),
+          UUID.randomUUID(),
+          "Hello, Wörld!",
+          Instant.parse("2025-01-02T03:04:05.123456789Z"));
+
+  @Test
+  void EventRoundTripsThroughBinaryLayout() {
+    var bytes = GreetingBinaryCodec.encodeEvent(event);
+
+    assertThat(GreetingBinaryCodec.isBinary(bytes)).isTrue();
+    assertThat(GreetingBinaryCodec.decodeEvent(bytes)).isEqualTo(event);
+  }
+
+  @Test
+  void GreetingRoundTripsThroughRedisSerializer() {
+    var greeting = new Greeting(UUID.randomUUID(), "Hello, Redis!");
+    var serializer = new GreetingRedisSerializer(WireFormat.BINARY);
+
+    assertThat(serializer.deserialize(serializer.serialize(greeting))).isEqualTo(greeting);
+  }
+
+  @Test
+  void ReadersAcceptLegacyJson() {
+    var greeting = new Greeting(UUID.randomUUID(), "Hello, JSON!");
+    var jsonGreeting = new GreetingRedisSerializer(WireFormat.JSON).serialize(greeting);
+    var jsonEvent = new JsonSerializer<GreetingCreatedEvent>().serialize("greeting-events", event);
+
+    try (var deserializer = new GreetingEventKafkaDeserializer()) {
+      assertThat(deserializer.deserialize("greeting-events", jsonEvent)).isEqualTo(event);
+    }
+    assertThat(new GreetingRedisSerializer(WireFormat.BINARY).deserialize(jsonGreeting))
+        .isEqualTo(greeting);
+  }
+
+  @Test
+  void TruncatedPayloadIsRejected() {
+    var bytes = GreetingBinaryCodec.encodeEvent(event);
+
+    assertThatThrownBy(() -> GreetingBinaryCodec.decodeEvent(Arrays.copyOf(bytes, 20)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,76 @@
+package com.example.template.adapters.in.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.template.adapters.grpc.generated.GetGreetingRequest;
+import com.example.template.adapters.grpc.generated.GreetingResponse;
+import com.example.template.adapters.grpc.generated.GreetingServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CallCleanupServerInterceptorTest {
+  private final ThreadLocal<String> threadState = new ThreadLocal<>();
+  private final List<String> seenAtStart = new CopyOnWriteArrayList<>();
+  private ExecutorService executor;
+  private Server server;
+  private ManagedChannel channel;
+  private GreetingServiceGrpc.GreetingServiceBlockingStub stub;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // One thread, so every call is handled on the thread the previous call left its state on.
+    executor = Executors.newSingleThreadExecutor();
+    var name = InProcessServerBuilder.generateName();
+    server =
+        InProcessServerBuilder.forName(name)
+            .executor(executor)
+            .addService(
+                ServerInterceptors.intercept(
+                    new StatefulGreetingService(),
+                    new CallCleanupServerInterceptor(threadState::remove)))
+            .build()
+            .start();
+    channel = InProcessChannelBuilder.forName(name).build();
+    stub = GreetingServiceGrpc.newBlockingStub(channel);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    executor.shutdownNow();
+  }
+
+  @Test
+  void ThreadStateDoesNotOutliveTheCall() {
+    var request = GetGreetingRequest.newBuilder().setId("greeting-1").build();
+
+    stub.getGreeting(request);
+    stub.getGreeting(request);
+
+    assertThat(seenAtStart).hasSize(2).containsOnlyNulls();
+  }
+
+  private class StatefulGreetingService extends GreetingServiceGrpc.GreetingServiceImplBase {
+    @Override
+    public void getGreeting(
+        GetGreetingRequest request, StreamObserver<GreetingResponse> responseObserver) {
+      seenAtStart.add(threadState.get());
+      threadState.set("handled " + request.getId());
+      responseObserver.onNext(GreetingResponse.newBuilder().setId(request.getId()).build());
+      responseObserver.onCompleted();
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.example.template.adapters.in.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.template.adapters.grpc.generated.GetGreetingRequest;
+import com.example.template.adapters.grpc.generated.GreetingResponse;
+import com.example.template.adapters.grpc.generated.GreetingServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MetricsServerInterceptorTest {
+  private static final String GET_GREETING =
+      "com.example.template.grpc.GreetingService/GetGreeting";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private Server server;
+  private ManagedChannel channel;
+  private GreetingServiceGrpc.GreetingServiceBlockingStub stub;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    var interceptor =
+        new MetricsServerInterceptor(
+            meterRegistry, List.of(GreetingServiceGrpc.getServiceDescriptor()));
+    var name = InProcessServerBuilder.generateName();
+    server =
+        InProcessServerBuilder.forName(name)
+            .addService(ServerInterceptors.intercept(new EchoGreetingService(), interceptor))
+            .build()
+            .start();
+    channel = InProcessChannelBuilder.forName(name).build();
+    stub = GreetingServiceGrpc.newBlockingStub(channel);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void RegistersMethodMetersUpFront() {
+    assertThat(meterRegistry.get("grpc.server.requests.active").tag("method", GET_GREETING).gauge())
+        .isNotNull();
+    assertThat(meterRegistry.find("grpc.server.requests").timers()).isEmpty();
+  }
+
+  @Test
+  void RecordsDurationSizesAndInFlightPerMethodAndStatus() {
+    var request = GetGreetingRequest.newBuilder().setId("greeting-1").build();
+
+    stub.getGreeting(request);
+    stub.getGreeting(request);
+    assertThatThrownBy(() -> stub.getGreeting(GetGreetingRequest.getDefaultInstance()))
+        .isInstanceOf(StatusRuntimeException.class);
+
+    assertThat(timer("OK").count()).isEqualTo(2);
+    assertThat(timer("INVALID_ARGUMENT").count()).isEqualTo(1);
+    var requestSize =
+        meterRegistry.get("grpc.server.request.size").tag("method", GET_GREETING).summary();
+    assertThat(requestSize.count()).isEqualTo(3);
+    assertThat(requestSize.totalAmount()).isEqualTo(2.0 * request.getSerializedSize());
+    var responseSize =
+        meterRegistry.get("grpc.server.response.size").tag("method", GET_GREETING).summary();
+    assertThat(responseSize.count()).isEqualTo(2);
+    // The server listener completes after the response reaches the client, so wait briefly.
+    var active = meterRegistry.get("grpc.server.requests.active").tag("method", GET_GREETING);
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (active.gauge().value() != 0 && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+    assertThat(active.gauge().value()).isZero();
+  }
+
+  private Timer timer(String status) {
+    return meterRegistry
+        .get("grpc.server.requests")
+        .tag("method", GET_GREETING)
+        .tag("status", status)
+        .timer();
+  }
+
+  static class EchoGreetingService extends GreetingServiceGrpc.GreetingServiceImplBase {
+    @Override
+    public void getGreeting(
+        GetGreetingRequest request, StreamObserver<GreetingResponse> responseObserver) {
+      if (request.getId().isEmpty()) {
+        responseObserver.onError(Status.INVALID_ARGUMENT.asRuntimeException());
+        return;
+      }
+      responseObserver.onNext(
+          GreetingResponse.newBuilder().setId(request.getId()).setMessage("Hello!").build());
+      responseObserver.onCompleted();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.example.template.adapters.in.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.template.adapters.grpc.generated.GetGreetingRequest;
+import com.example.template.adapters.grpc.generated.GreetingServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OverloadProtectionServerInterceptorTest {
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger queued = new AtomicInteger();
+  private Server server;
+  private ManagedChannel channel;
+  private GreetingServiceGrpc.GreetingServiceBlockingStub stub;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    var interceptor = new OverloadProtectionServerInterceptor(queued::get, 10, meterRegistry);
+    var name = InProcessServerBuilder.generateName();
+    server =
+        InProcessServerBuilder.forName(name)
+            .addService(
+                ServerInterceptors.intercept(
+                    new MetricsServerInterceptorTest.EchoGreetingService(), interceptor))
+            .build()
+            .start();
+    channel = InProcessChannelBuilder.forName(name).build();
+    stub = GreetingServiceGrpc.newBlockingStub(channel);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void AdmitsCallsUpToTheQueueLimit() {
+    queued.set(10);
+
+    var response = stub.getGreeting(GetGreetingRequest.newBuilder().setId("greeting-1").build());
+
+    assertThat(response.getId()).isEqualTo("greeting-1");
+    assertThat(meterRegistry.get("grpc.server.requests.rejected").counter().count()).isZero();
+  }
+
+  @Test
+  void RejectsWithResourceExhaustedWhenTheQueueIsSaturated() {
+    queued.set(11);
+
+    assertThatThrownBy(
+            () -> stub.getGreeting(GetGreetingRequest.newBuilder().setId("greeting-1").build()))
+        .isInstanceOfSatisfying(
+            StatusRuntimeException.class,
+            e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED));
+    assertThat(meterRegistry.get("grpc.server.requests.rejected").counter().count()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,76 @@
+package com.example.template.adapters.in.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import com.example.template.domain.events.GreetingCreatedEvent;
+import com.example.template.domain.ports.in.GreetingBatchHandlingException;
+import com.example.template.domain.ports.in.GreetingEventHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+class KafkaGreetingEventListenerTest {
+  private final List<GreetingCreatedEvent> events =
+      List.of(event("one"), event("two"), event("three"));
+
+  private GreetingEventHandler handler;
+  private SimpleMeterRegistry meterRegistry;
+  private KafkaGreetingEventListener listener;
+
+  @BeforeEach
+  void setUp() {
+    handler = mock(GreetingEventHandler.class);
+    meterRegistry = new SimpleMeterRegistry();
+    listener = new KafkaGreetingEventListener(handler, meterRegistry);
+  }
+
+  @Test
+  void TimesEachBatchUnderItsOwnName() {
+    listener.onGreetingCreated(events);
+
+    assertThat(meterRegistry.get("kafka.greeting.events.batch.processing.time").timer().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.find("kafka.greeting.events.processing.time").timer()).isNull();
+    assertThat(processed("success")).isEqualTo(3);
+  }
+
+  @Test
+  void BatchFailureCountsTheEventsBeforeItAsProcessed() {
+    doThrow(new GreetingBatchHandlingException(1, new IllegalStateException("bad event")))
+        .when(handler)
+        .handleBatch(events);
+
+    assertThatThrownBy(() -> listener.onGreetingCreated(events))
+        .isInstanceOf(BatchListenerFailedException.class);
+    assertThat(processed("success")).isEqualTo(1);
+    assertThat(processed("failure")).isEqualTo(1);
+  }
+
+  @Test
+  void OtherFailureCountsTheWholeBatchAsFailed() {
+    doThrow(new IllegalStateException("handler down")).when(handler).handleBatch(events);
+
+    assertThatThrownBy(() -> listener.onGreetingCreated(events))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(processed("success")).isZero();
+    assertThat(processed("failure")).isEqualTo(3);
+  }
+
+  private double processed(String outcome) {
+    return meterRegistry
+        .get("kafka.greeting.events.processed")
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  private static GreetingCreatedEvent event(String message) {
+    return GreetingCreatedEvent.from(UUID.randomUUID(), message);
+  }
+}
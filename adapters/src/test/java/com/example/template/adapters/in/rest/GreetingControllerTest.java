@@ -1,14 +1,22 @@
 package com.example.template.adapters.in.rest;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.template.domain.Greeting;
 import com.example.template.domain.services.GreetingService;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -42,4 +50,91 @@ class GreetingControllerTest {
         .andExpect(jsonPath("$.id").value(id.toString()))
         .andExpect(jsonPath("$.message").value("Hello, User!"));
   }
+
+  @Test
+  void GetAllReturnsFoundGreetingsInRequestOrder() throws Exception {
+    var first = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    var second = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    var missing = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    when(this.greetingService.getGreetings(List.of(second, missing, first)))
+        .thenReturn(List.of(new Greeting(second, "Hello, B!"), new Greeting(first, "Hello, A!")));
+
+    this.mockMvc
+        .perform(get("/api/v1/greetings").param("ids", second + "," + missing + "," + first))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[0].id").value(second.toString()))
+        .andExpect(jsonPath("$[1].id").value(first.toString()));
+  }
+
+  @Test
+  void ListReturnsPageWithNextCursor() throws Exception {
+    var first = new Greeting(UUID.fromString("00000000-0000-0000-0000-000000000001"), "Hello, A!");
+    var second = new Greeting(UUID.fromString("00000000-0000-0000-0000-000000000002"), "Hello, B!");
+    var third = new Greeting(UUID.fromString("00000000-0000-0000-0000-000000000003"), "Hello, C!");
+    when(this.greetingService.getGreetingsAfter(first.id(), 3))
+        .thenReturn(List.of(second, third, new Greeting(UUID.randomUUID(), "Hello, D!")));
+    when(this.greetingService.getGreetingsAfter(third.id(), 3)).thenReturn(List.of());
+
+    this.mockMvc
+        .perform(
+            get("/api/v1/greetings").param("cursor", first.id().toString()).param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items.length()").value(2))
+        .andExpect(jsonPath("$.items[0].id").value(second.id().toString()))
+        .andExpect(jsonPath("$.nextCursor").value(third.id().toString()));
+
+    this.mockMvc
+        .perform(
+            get("/api/v1/greetings").param("cursor", third.id().toString()).param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items.length()").value(0))
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  void ListRejectsLimitAboveMaximum() throws Exception {
+    this.mockMvc
+        .perform(get("/api/v1/greetings").param("limit", "1001"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void ExportStreamsNewlineDelimitedJson() throws Exception {
+    var first = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    var second = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    doAnswer(
+            invocation -> {
+              Consumer<Greeting> action = invocation.getArgument(0);
+              action.accept(new Greeting(first, "Hello, A!"));
+              action.accept(new Greeting(second, "Hello, B!"));
+              return null;
+            })
+        .when(this.greetingService)
+        .forEachGreeting(any());
+
+    var result =
+        this.mockMvc.perform(get("/api/v1/greetings/export")).andExpect(request().asyncStarted());
+
+    this.mockMvc
+        .perform(asyncDispatch(result.andReturn()))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andExpect(
+            content()
+                .string(
+                    "{\"id\":\""
+                        + first
+                        + "\",\"message\":\"Hello, A!\"}\n{\"id\":\""
+                        + second
+                        + "\",\"message\":\"Hello, B!\"}\n"));
+  }
+
+  @Test
+  void GetAllRejectsMalformedIds() throws Exception {
+    this.mockMvc
+        .perform(get("/api/v1/greetings").param("ids", "not-a-uuid"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.type").value("urn:problem:invalid-parameter"));
+  }
 }
@@ -0,0 +1,51 @@
+package com.example.template.adapters.in.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestCleanupFilterTest {
+  private final ThreadLocal<String> threadState = new ThreadLocal<>();
+  private final RequestCleanupFilter filter = new RequestCleanupFilter(threadState::remove);
+
+  @Test
+  void ThreadStateDoesNotOutliveTheRequest() throws Exception {
+    filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain(() -> {}));
+
+    assertThat(threadState.get()).isNull();
+  }
+
+  @Test
+  void ThreadStateIsClearedWhenTheRequestFails() {
+    assertThatThrownBy(
+            () ->
+                filter.doFilter(
+                    new MockHttpServletRequest(),
+                    new MockHttpServletResponse(),
+                    chain(
+                        () -> {
+                          throw new IllegalStateException("handler failed");
+                        })))
+        .hasMessage("handler failed");
+
+    assertThat(threadState.get()).isNull();
+  }
+
+  private MockFilterChain chain(Runnable afterSettingState) {
+    return new MockFilterChain(
+        new HttpServlet() {
+          @Override
+          protected void service(HttpServletRequest request, HttpServletResponse response) {
+            threadState.set("handled");
+            afterSettingState.run();
+          }
+        });
+  }
+}
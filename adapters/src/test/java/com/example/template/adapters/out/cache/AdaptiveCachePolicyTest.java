@@ -0,0 +1,78 @@
+package com.example.template.adapters.out.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.template.domain.Greeting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveCachePolicyTest {
+  private static final Duration TTL = Duration.ofMinutes(30);
+  private static final Duration HOT_TTL = Duration.ofHours(2);
+
+  private final Greeting greeting = new Greeting(UUID.randomUUID(), "Hello, User!");
+
+  private SimpleMeterRegistry meterRegistry;
+  private AdaptiveCachePolicy policy;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    policy = new AdaptiveCachePolicy(1_000, 1, TTL, 8, HOT_TTL, 0.1, meterRegistry);
+  }
+
+  @Test
+  void AdmitsOnlyAfterLookup() {
+    // The put after createGreeting comes before any lookup.
+    assertThat(policy.admit(greeting)).isEmpty();
+
+    policy.recordAccess(greeting.id(), false);
+    assertThat(policy.admit(greeting)).hasValueSatisfying(ttl -> assertWithinJitter(ttl, TTL));
+
+    assertThat(admissions("admitted")).isEqualTo(1);
+    assertThat(admissions("rejected")).isEqualTo(1);
+  }
+
+  @Test
+  void HotGreetingsGetLongerTtl() {
+    for (int i = 0; i < 8; i++) {
+      policy.recordAccess(greeting.id(), i > 0);
+    }
+
+    assertThat(policy.admit(greeting)).hasValueSatisfying(ttl -> assertWithinJitter(ttl, HOT_TTL));
+    assertThat(policy.hitRatio()).isEqualTo(7.0 / 8);
+  }
+
+  @Test
+  void UnseenGreetingsAreRarelyAdmitted() {
+    for (int i = 0; i < 1_000; i++) {
+      var id = UUID.randomUUID();
+      policy.recordAccess(id, false);
+    }
+
+    long admitted = 0;
+    for (int i = 0; i < 10_000; i++) {
+      if (policy.admit(new Greeting(UUID.randomUUID(), "Hello!")).isPresent()) {
+        admitted++;
+      }
+    }
+
+    assertThat(admitted).isLessThan(100);
+  }
+
+  private double admissions(String outcome) {
+    return meterRegistry
+        .get("cache.greeting.policy.admissions")
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  private static void assertWithinJitter(Duration ttl, Duration base) {
+    assertThat(ttl)
+        .isBetween(base.multipliedBy(9).dividedBy(10), base.multipliedBy(11).dividedBy(10));
+  }
+}
@@ -0,0 +1,127 @@
+package com.example.template.adapters.out.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.template.domain.Greeting;
+import com.example.template.domain.ports.out.CachedGreeting;
+import com.example.template.domain.ports.out.GreetingCache;
+import com.example.template.domain.ports.out.GreetingEventPublisher;
+import com.example.template.domain.ports.out.GreetingStore;
+import com.example.template.domain.ports.out.TransactionRunner;
+import com.example.template.domain.services.GreetingServiceImpl;
+import com.example.template.domain.services.ProbabilisticEarlyRefresh;
+import com.example.template.domain.services.UuidV7Generator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class TieredGreetingCacheTest {
+  private static final Duration REMOTE_TTL = Duration.ofMinutes(30);
+
+  private final Greeting greeting =
+      new Greeting(UUID.fromString("00000000-0000-0000-0000-000000000001"), "Hello, User!");
+
+  private GreetingCache remote;
+  private StringRedisTemplate redisTemplate;
+  private SimpleMeterRegistry meterRegistry;
+  private TieredGreetingCache cache;
+
+  @BeforeEach
+  void setUp() {
+    remote = mock(GreetingCache.class);
+    redisTemplate = mock(StringRedisTemplate.class);
+    meterRegistry = new SimpleMeterRegistry();
+    cache =
+        new TieredGreetingCache(
+            remote, redisTemplate, meterRegistry, 100, Duration.ofMinutes(1), REMOTE_TTL);
+  }
+
+  @Test
+  void SecondGetIsServedLocally() {
+    when(remote.getEntry(greeting.id()))
+        .thenReturn(Optional.of(CachedGreeting.withoutExpiry(greeting)));
+
+    assertThat(cache.get(greeting.id())).contains(greeting);
+    assertThat(cache.get(greeting.id())).contains(greeting);
+
+    verify(remote, times(1)).getEntry(greeting.id());
+    assertThat(meterRegistry.get("cache.greeting.hits").tag("cache", "local").counter().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("cache.greeting.misses").tag("cache", "local").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void EvictBroadcastsInvalidation() {
+    cache.put(greeting);
+
+    cache.evict(greeting.id());
+
+    verify(remote).evict(greeting.id());
+    verify(redisTemplate)
+        .convertAndSend(TieredGreetingCache.INVALIDATION_CHANNEL, greeting.id().toString());
+  }
+
+  @Test
+  void InvalidationMessageDropsLocalEntry() {
+    cache.put(greeting);
+
+    cache.onMessage(
+        new DefaultMessage(
+            TieredGreetingCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            greeting.id().toString().getBytes(StandardCharsets.UTF_8)),
+        null);
+
+    when(remote.getEntry(greeting.id())).thenReturn(Optional.empty());
+    assertThat(cache.get(greeting.id())).isEmpty();
+  }
+
+  @Test
+  void LocalCopyKeepsTheRemoteExpiry() {
+    var before = Instant.now();
+
+    cache.put(greeting);
+
+    var entry = cache.getEntry(greeting.id()).orElseThrow();
+    assertThat(entry.expiresAt())
+        .isBetween(before.plus(REMOTE_TTL), Instant.now().plus(REMOTE_TTL));
+    verify(remote, never()).getEntry(greeting.id());
+  }
+
+  @Test
+  void LocalHitNearRemoteExpiryIsRefreshedEarly() {
+    var store = mock(GreetingStore.class);
+    when(store.findById(greeting.id())).thenReturn(Optional.of(greeting));
+    // A clock at the remote expiry, so every lookup refreshes.
+    var atExpiry = Clock.offset(Clock.systemUTC(), REMOTE_TTL);
+    var service =
+        new GreetingServiceImpl(
+            store,
+            cache,
+            mock(GreetingEventPublisher.class),
+            TransactionRunner.none(),
+            new ProbabilisticEarlyRefresh(1.0, atExpiry),
+            new UuidV7Generator(atExpiry));
+    cache.put(greeting);
+
+    assertThat(service.getGreeting(greeting.id())).contains(greeting);
+
+    verify(remote, never()).getEntry(greeting.id());
+    verify(store, timeout(5000)).findById(greeting.id());
+    verify(remote, timeout(5000).times(2)).put(greeting);
+  }
+}
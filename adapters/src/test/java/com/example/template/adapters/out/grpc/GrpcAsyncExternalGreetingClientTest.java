@@ -0,0 +1,187 @@
+package com.example.template.adapters.out.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.template.adapters.grpc.generated.CreateGreetingRequest;
+import com.example.template.adapters.grpc.generated.GetGreetingRequest;
+import com.example.template.adapters.grpc.generated.GreetingResponse;
+import com.example.template.adapters.grpc.generated.GreetingServiceGrpc;
+import com.example.template.domain.Greeting;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GrpcAsyncExternalGreetingClientTest {
+  private static final Greeting GREETING =
+      new Greeting(UUID.fromString("00000000-0000-0000-0000-000000000001"), "Hello, User!");
+
+  private final FakeGreetingService service = new FakeGreetingService();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private Server server;
+  private ManagedChannel channel;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    var name = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(name).addService(service).build().start();
+    channel = InProcessChannelBuilder.forName(name).build();
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    service.close();
+  }
+
+  @Test
+  void FetchGreetingReturnsGreetingAndRecordsTimer() throws Exception {
+    try (var client = client(Duration.ofSeconds(2), false)) {
+      assertThat(client.fetchGreeting(GREETING.id()).get(5, TimeUnit.SECONDS)).contains(GREETING);
+    }
+
+    var timer =
+        meterRegistry
+            .get("grpc.client.requests")
+            .tag("method", "com.example.template.grpc.GreetingService/GetGreeting")
+            .tag("status", "OK")
+            .timer();
+    assertThat(timer.count()).isEqualTo(1);
+  }
+
+  @Test
+  void RegistersEveryMethodAndStatusTimerUpFront() throws Exception {
+    try (var client = client(Duration.ofSeconds(2), false)) {
+      assertThat(meterRegistry.find("grpc.client.requests").timers())
+          .hasSize(2 * Status.Code.values().length);
+
+      client.fetchGreeting(UUID.randomUUID()).get(5, TimeUnit.SECONDS);
+    }
+
+    var notFound =
+        meterRegistry
+            .get("grpc.client.requests")
+            .tag("method", "com.example.template.grpc.GreetingService/GetGreeting")
+            .tag("status", "NOT_FOUND")
+            .timer();
+    assertThat(notFound.count()).isEqualTo(1);
+    assertThat(meterRegistry.find("grpc.client.requests").timers())
+        .hasSize(2 * Status.Code.values().length);
+  }
+
+  @Test
+  void FetchGreetingIsEmptyWhenNotFound() throws Exception {
+    try (var client = client(Duration.ofSeconds(2), false)) {
+      assertThat(client.fetchGreeting(UUID.randomUUID()).get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+  }
+
+  @Test
+  void CallFailsWhenDeadlineExpires() {
+    service.firstCallDelayMillis = 2_000;
+
+    try (var client = client(Duration.ofMillis(100), false)) {
+      assertThatThrownBy(() -> client.fetchGreeting(GREETING.id()).get(5, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .rootCause()
+          .satisfies(
+              cause ->
+                  assertThat(Status.fromThrowable(cause).getCode())
+                      .isEqualTo(Status.Code.DEADLINE_EXCEEDED));
+    }
+  }
+
+  @Test
+  void HedgedAttemptAnswersWhenFirstAttemptIsSlow() throws Exception {
+    service.firstCallDelayMillis = 2_000;
+
+    try (var client = client(Duration.ofSeconds(5), true)) {
+      long start = System.nanoTime();
+      assertThat(client.fetchGreeting(GREETING.id()).get(5, TimeUnit.SECONDS)).contains(GREETING);
+      assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    assertThat(service.calls.get()).isEqualTo(2);
+    assertThat(meterRegistry.get("grpc.client.hedged.requests").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void CreateRemoteGreetingIsNeverHedged() throws Exception {
+    service.firstCallDelayMillis = 300;
+
+    try (var client = client(Duration.ofSeconds(5), true)) {
+      var created = client.createRemoteGreeting("User").get(5, TimeUnit.SECONDS);
+      assertThat(created.message()).isEqualTo("Hello, User!");
+    }
+
+    assertThat(service.calls.get()).isEqualTo(1);
+  }
+
+  private GrpcAsyncExternalGreetingClient client(Duration deadline, boolean hedging) {
+    return new GrpcAsyncExternalGreetingClient(
+        GreetingServiceGrpc.newFutureStub(channel),
+        meterRegistry,
+        deadline,
+        hedging,
+        Duration.ofMillis(50));
+  }
+
+  /** Knows only {@link #GREETING}; optionally answers the first call late. */
+  static class FakeGreetingService extends GreetingServiceGrpc.GreetingServiceImplBase {
+    final AtomicInteger calls = new AtomicInteger();
+    final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    volatile long firstCallDelayMillis;
+
+    @Override
+    public void getGreeting(
+        GetGreetingRequest request, StreamObserver<GreetingResponse> responseObserver) {
+      if (!request.getId().equals(GREETING.id().toString())) {
+        responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+        return;
+      }
+      respond(GREETING, responseObserver);
+    }
+
+    @Override
+    public void createGreeting(
+        CreateGreetingRequest request, StreamObserver<GreetingResponse> responseObserver) {
+      respond(
+          new Greeting(UUID.randomUUID(), "Hello, " + request.getName() + "!"), responseObserver);
+    }
+
+    private void respond(Greeting greeting, StreamObserver<GreetingResponse> responseObserver) {
+      var response =
+          GreetingResponse.newBuilder()
+              .setId(greeting.id().toString())
+              .setMessage(greeting.message())
+              .build();
+      long delay = calls.incrementAndGet() == 1 ? firstCallDelayMillis : 0;
+      scheduler.schedule(
+          () -> {
+            responseObserver.onNext(response);
+            responseObserver.onCompleted();
+          },
+          delay,
+          TimeUnit.MILLISECONDS);
+    }
+
+    void close() {
+      scheduler.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.example.template.adapters.out.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.template.domain.events.GreetingCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+class KafkaGreetingEventPublisherTest {
+  private static final Duration ENQUEUE_TIMEOUT = Duration.ofMillis(20);
+
+  private KafkaTemplate<String, GreetingCreatedEvent> kafkaTemplate;
+  private SimpleMeterRegistry meterRegistry;
+  private KafkaGreetingEventPublisher publisher;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    kafkaTemplate = mock(KafkaTemplate.class);
+    meterRegistry = new SimpleMeterRegistry();
+    publisher = new KafkaGreetingEventPublisher(kafkaTemplate, meterRegistry, 1, ENQUEUE_TIMEOUT);
+  }
+
+  @Test
+  void PermitIsHeldUntilTheBrokerAcknowledges() {
+    var ack = new CompletableFuture<SendResult<String, GreetingCreatedEvent>>();
+    when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(ack);
+    var event = event();
+
+    publisher.publish(event);
+    assertThat(inFlight()).isEqualTo(1);
+
+    ack.complete(acknowledged(event));
+    assertThat(inFlight()).isZero();
+    assertThat(count("success")).isEqualTo(1);
+  }
+
+  @Test
+  void PermitIsReturnedWhenTheSendFails() {
+    var ack = new CompletableFuture<SendResult<String, GreetingCreatedEvent>>();
+    when(kafkaTemplate.send(anyString(), anyString(), any()))
+        .thenReturn(ack)
+        .thenThrow(new IllegalStateException("producer closed"));
+
+    publisher.publish(event());
+    ack.completeExceptionally(new IllegalStateException("broker down"));
+    assertThat(inFlight()).isZero();
+    assertThat(count("failure")).isEqualTo(1);
+
+    assertThatThrownBy(() -> publisher.publish(event())).hasMessage("producer closed");
+    assertThat(inFlight()).isZero();
+  }
+
+  @Test
+  void PublishBeyondMaxInFlightThrowsBackPressure() {
+    when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+
+    publisher.publish(event());
+
+    assertThatThrownBy(() -> publisher.publish(event()))
+        .isInstanceOf(ProducerBackPressureException.class);
+    assertThatThrownBy(() -> publisher.publishAll(List.of(event(), event())))
+        .isInstanceOf(ProducerBackPressureException.class);
+    assertThat(count("backpressure")).isEqualTo(2);
+    verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any());
+  }
+
+  @Test
+  void SendAllStopsAtTheFirstBackPressuredEvent() {
+    var ack = new CompletableFuture<SendResult<String, GreetingCreatedEvent>>();
+    when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(ack);
+    var first = event();
+
+    var sent = publisher.sendAll(List.of(first, event(), event()));
+
+    verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any());
+    assertThat(count("backpressure")).isEqualTo(1);
+    assertThat(sent).isNotDone();
+
+    ack.complete(acknowledged(first));
+    assertThatThrownBy(sent::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(ProducerBackPressureException.class);
+  }
+
+  private double inFlight() {
+    return meterRegistry.get("kafka.greeting.events.publish.in.flight").gauge().value();
+  }
+
+  private double count(String outcome) {
+    return meterRegistry
+        .get("kafka.greeting.events.published")
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  private static GreetingCreatedEvent event() {
+    return GreetingCreatedEvent.from(UUID.randomUUID(), "Hello!");
+  }
+
+  private static SendResult<String, GreetingCreatedEvent> acknowledged(GreetingCreatedEvent event) {
+    return new SendResult<>(
+        new ProducerRecord<>("greeting-events", event.greetingId().toString(), event),
+        new RecordMetadata(new TopicPartition("greeting-events", 0), 0, 0, 0, 0, 0));
+  }
+}
@@ -0,0 +1,74 @@
+package com.example.template.adapters.out.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.template.adapters.out.messaging.KafkaGreetingEventPublisher;
+import com.example.template.domain.events.GreetingCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GreetingOutboxRelayTest {
+  private static final Duration SEND_TIMEOUT = Duration.ofSeconds(5);
+
+  private final List<OutboxEntry> entries =
+      List.of(
+          new OutboxEntry(
+              1,
+              new GreetingCreatedEvent(UUID.randomUUID(), UUID.randomUUID(), "Hi", Instant.now())),
+          new OutboxEntry(
+              2,
+              new GreetingCreatedEvent(
+                  UUID.randomUUID(), UUID.randomUUID(), "Hey", Instant.now())));
+
+  private JdbcGreetingOutbox outbox;
+  private KafkaGreetingEventPublisher publisher;
+  private GreetingOutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    outbox = mock(JdbcGreetingOutbox.class);
+    publisher = mock(KafkaGreetingEventPublisher.class);
+    relay = new GreetingOutboxRelay(outbox, publisher, new SimpleMeterRegistry(), 2, SEND_TIMEOUT);
+  }
+
+  @Test
+  void ClaimOutlastsTheSendTimeout() {
+    when(outbox.claimNextBatch(2, SEND_TIMEOUT.multipliedBy(2))).thenReturn(List.of());
+
+    assertThat(relay.relayBatch()).isZero();
+    verify(publisher, never()).sendAll(any());
+  }
+
+  @Test
+  void AcknowledgedBatchIsDeleted() {
+    when(outbox.claimNextBatch(any(Integer.class), any())).thenReturn(entries);
+    when(publisher.sendAll(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+    assertThat(relay.relayBatch()).isEqualTo(2);
+    verify(outbox).delete(entries);
+    verify(outbox, never()).release(any());
+  }
+
+  @Test
+  void FailedSendReleasesTheClaim() {
+    when(outbox.claimNextBatch(any(Integer.class), any())).thenReturn(entries);
+    when(publisher.sendAll(any()))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+    assertThatThrownBy(relay::relayBatch).isInstanceOf(IllegalStateException.class);
+    verify(outbox).release(entries);
+    verify(outbox, never()).delete(any());
+  }
+}
@@ -0,0 +1,321 @@
+package com.example.template.adapters.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.example.template.domain.Greeting;
+import com.example.template.domain.ports.out.GreetingCache;
+import com.example.template.domain.ports.out.GreetingEventPublisher;
+import com.example.template.domain.ports.out.GreetingStore;
+import com.example.template.domain.ports.out.TransactionRunner;
+import com.example.template.domain.services.GreetingServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class BufferedGreetingStoreTest {
+  private final RecordingStore delegate = new RecordingStore();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private BufferedGreetingStore store;
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    store.close();
+  }
+
+  @Test
+  void SaveWaitsForBatchCommitAndFlushesOnDelay() {
+    store = store(100, Duration.ofMillis(20));
+    var greeting = greeting();
+
+    store.save(greeting);
+
+    assertThat(delegate.batches).containsExactly(List.of(greeting));
+    assertThat(meterRegistry.get("greeting.store.flush.size").summary().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("greeting.store.flush.latency").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void AsyncSavesAreGroupedIntoBatches() throws Exception {
+    store = store(3, Duration.ofSeconds(5));
+    var futures = new ArrayList<CompletableFuture<Void>>();
+    for (int i = 0; i < 6; i++) {
+      futures.add(store.saveAsync(greeting()));
+    }
+
+    for (var future : futures) {
+      future.get(5, TimeUnit.SECONDS);
+    }
+    assertThat(delegate.batches).hasSize(2).allSatisfy(batch -> assertThat(batch).hasSize(3));
+  }
+
+  @Test
+  void QueuedGreetingIsReadableBeforeFlush() throws Exception {
+    delegate.blockWrites();
+    store = store(1, Duration.ZERO);
+    var first = greeting();
+    var second = greeting();
+
+    store.saveAsync(first);
+    var pending = store.saveAsync(second);
+
+    assertThat(store.findById(second.id())).contains(second);
+    delegate.unblockWrites();
+    pending.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void FailedBatchIsRetriedOneByOneAndFailsOnlyTheBadWrite() throws Exception {
+    store = store(3, Duration.ofSeconds(5));
+    var first = greeting();
+    var bad = greeting();
+    var last = greeting();
+    delegate.failing.add(bad.id());
+
+    var firstSaved = store.saveAsync(first);
+    var badSaved = store.saveAsync(bad);
+    var lastSaved = store.saveAsync(last);
+
+    firstSaved.get(5, TimeUnit.SECONDS);
+    lastSaved.get(5, TimeUnit.SECONDS);
+    assertThatThrownBy(() -> badSaved.get(5, TimeUnit.SECONDS))
+        .hasRootCauseMessage("insert failed");
+    assertThat(delegate.batches).containsExactly(List.of(first), List.of(last));
+    assertThat(store.findById(bad.id())).isEmpty();
+  }
+
+  @Test
+  void FailedOutboxAppendFailsOnlyItsOwnSave() throws Exception {
+    store = store(2, Duration.ofSeconds(5));
+
+    try (var callers = Executors.newFixedThreadPool(2)) {
+      var saved = CompletableFuture.runAsync(() -> store.save(greeting(), () -> {}), callers);
+      var failed =
+          CompletableFuture.runAsync(
+              () ->
+                  store.save(
+                      greeting(),
+                      () -> {
+                        throw new IllegalStateException("append failed");
+                      }),
+              callers);
+
+      saved.get(5, TimeUnit.SECONDS);
+      assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+          .hasRootCauseMessage("append failed");
+    }
+  }
+
+  @Test
+  void SaveFailsWhenItsBatchDoesNotCommitInTime() {
+    delegate.blockWrites();
+    store = store(1, Duration.ZERO, Duration.ofMillis(100));
+
+    assertThatThrownBy(() -> store.save(greeting()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("did not commit");
+    delegate.unblockWrites();
+  }
+
+  @Test
+  void FlusherErrorFailsWaitingAndLaterSaves() {
+    delegate.fatal = new OutOfMemoryError("flusher died");
+    store = store(1, Duration.ZERO);
+
+    assertThatThrownBy(() -> store.save(greeting())).isInstanceOf(RejectedExecutionException.class);
+    assertThatThrownBy(() -> store.save(greeting())).isInstanceOf(RejectedExecutionException.class);
+  }
+
+  @Test
+  void ConcurrentCreatesBeyondPoolSizeCommitEachGreetingWithItsEvent() throws Exception {
+    var pool = new PooledTransactionRunner(2);
+    Map<UUID, Integer> greetingCommittedIn = new ConcurrentHashMap<>();
+    Map<UUID, Integer> eventCommittedIn = new ConcurrentHashMap<>();
+    var greetings =
+        new RecordingStore() {
+          @Override
+          public void saveAll(Collection<Greeting> greetings) {
+            super.saveAll(greetings);
+            greetings.forEach(greeting -> greetingCommittedIn.put(greeting.id(), pool.current()));
+          }
+        };
+    GreetingEventPublisher outbox =
+        event -> eventCommittedIn.put(event.greetingId(), pool.current());
+    store =
+        new BufferedGreetingStore(
+            greetings,
+            pool,
+            meterRegistry,
+            100,
+            8,
+            Duration.ofMillis(20),
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(5),
+            true);
+    // Wired as in write-behind mode: the service opens no transaction of its own.
+    var service = new GreetingServiceImpl(store, mock(GreetingCache.class), outbox);
+
+    var created = new ArrayList<CompletableFuture<Greeting>>();
+    try (var callers = Executors.newFixedThreadPool(16)) {
+      for (int i = 0; i < 16; i++) {
+        var name = "User " + i;
+        created.add(CompletableFuture.supplyAsync(() -> service.createGreeting(name), callers));
+      }
+      for (var greeting : created) {
+        var id = greeting.get(5, TimeUnit.SECONDS).id();
+        assertThat(greetingCommittedIn.get(id)).isNotNull().isEqualTo(eventCommittedIn.get(id));
+      }
+    }
+    assertThat(pool.peakInUse()).isLessThanOrEqualTo(1);
+  }
+
+  @Test
+  void SaveInsideCallerTransactionIsRejected() {
+    store = store(100, Duration.ofMillis(20));
+
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    try {
+      assertThatThrownBy(() -> store.save(greeting())).isInstanceOf(IllegalStateException.class);
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+    assertThat(delegate.batches).isEmpty();
+  }
+
+  private BufferedGreetingStore store(int batchSize, Duration maxDelay) {
+    return store(batchSize, maxDelay, Duration.ofSeconds(5));
+  }
+
+  private BufferedGreetingStore store(int batchSize, Duration maxDelay, Duration commitTimeout) {
+    return new BufferedGreetingStore(
+        delegate,
+        TransactionRunner.none(),
+        meterRegistry,
+        100,
+        batchSize,
+        maxDelay,
+        Duration.ofSeconds(1),
+        commitTimeout,
+        true);
+  }
+
+  private static Greeting greeting() {
+    return new Greeting(UUID.randomUUID(), "Hello, User!");
+  }
+
+  /** Each transaction holds one of a fixed number of connections, as with a connection pool. */
+  static class PooledTransactionRunner implements TransactionRunner {
+    private final Semaphore connections;
+    private final int size;
+    private final AtomicInteger transactionIds = new AtomicInteger();
+    private final AtomicInteger peakInUse = new AtomicInteger();
+    private final ThreadLocal<Integer> current = new ThreadLocal<>();
+
+    PooledTransactionRunner(int size) {
+      this.connections = new Semaphore(size);
+      this.size = size;
+    }
+
+    @Override
+    public void inTransaction(Runnable work) {
+      if (current.get() != null) {
+        work.run();
+        return;
+      }
+      try {
+        if (!connections.tryAcquire(1, TimeUnit.SECONDS)) {
+          throw new IllegalStateException("Connection is not available, request timed out");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+      peakInUse.accumulateAndGet(size - connections.availablePermits(), Math::max);
+      current.set(transactionIds.incrementAndGet());
+      try {
+        work.run();
+      } finally {
+        current.remove();
+        connections.release();
+      }
+    }
+
+    Integer current() {
+      return current.get();
+    }
+
+    int peakInUse() {
+      return peakInUse.get();
+    }
+  }
+
+  static class RecordingStore implements GreetingStore {
+    final List<List<Greeting>> batches = new CopyOnWriteArrayList<>();
+    final Set<UUID> failing = ConcurrentHashMap.newKeySet();
+    volatile Error fatal;
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    void blockWrites() {
+      gate = new CountDownLatch(1);
+    }
+
+    void unblockWrites() {
+      gate.countDown();
+    }
+
+    @Override
+    public void save(Greeting greeting) {
+      saveAll(List.of(greeting));
+    }
+
+    @Override
+    public void saveAll(Collection<Greeting> greetings) {
+      try {
+        gate.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (fatal != null) {
+        throw fatal;
+      }
+      if (greetings.stream().map(Greeting::id).anyMatch(failing::contains)) {
+        throw new IllegalStateException("insert failed");
+      }
+      batches.add(List.copyOf(greetings));
+    }
+
+    @Override
+    public Optional<Greeting> findById(UUID id) {
+      return Optional.empty();
+    }
+
+    @Override
+    public List<Greeting> findAllById(Collection<UUID> ids) {
+      return List.of();
+    }
+
+    @Override
+    public List<Greeting> findAfter(UUID afterId, int limit) {
+      return List.of();
+    }
+  }
+}
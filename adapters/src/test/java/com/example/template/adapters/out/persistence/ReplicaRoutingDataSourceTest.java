@@ -0,0 +1,114 @@
+package com.example.template.adapters.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final Connection primaryConnection = mock(Connection.class);
+  private final Connection replicaConnection = mock(Connection.class);
+  private ResultSet lagResult;
+  private ReplicaRoutingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    var primary = mock(DataSource.class);
+    when(primary.getConnection()).thenReturn(primaryConnection);
+
+    var replica = mock(DataSource.class);
+    var statement = mock(Statement.class);
+    lagResult = mock(ResultSet.class);
+    when(replica.getConnection()).thenReturn(replicaConnection);
+    when(replicaConnection.createStatement()).thenReturn(statement);
+    when(statement.executeQuery(anyString())).thenReturn(lagResult);
+    when(lagResult.next()).thenReturn(true);
+    when(lagResult.getLong(1)).thenReturn(0L);
+
+    dataSource =
+        new ReplicaRoutingDataSource(
+            primary, Map.of("replica-0", replica), Duration.ofSeconds(5), meterRegistry);
+    dataSource.afterPropertiesSet();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.clear();
+  }
+
+  @Test
+  void ReadOnlyTransactionUsesReplica() throws Exception {
+    inTransaction(true);
+
+    assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+  }
+
+  @Test
+  void ReadsAfterWriteStayOnPrimary() throws Exception {
+    inTransaction(false);
+    assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+    inTransaction(true);
+    assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+  }
+
+  @Test
+  void PinOnPrimaryEndsWithTheRequest() throws Exception {
+    inTransaction(false);
+    assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    dataSource.releasePrimaryPin();
+
+    inTransaction(true);
+    assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+  }
+
+  @Test
+  void ReadFromPrimaryUsesPrimaryWithoutPinning() throws Exception {
+    inTransaction(true);
+
+    assertThat(dataSource.readFromPrimary(() -> connection())).isSameAs(primaryConnection);
+    assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    assertThat(meterRegistry.get("greeting.datasource.replica.fallbacks").counter().count())
+        .isZero();
+  }
+
+  @Test
+  void LaggingReplicaFallsBackToPrimary() throws Exception {
+    when(lagResult.getLong(1)).thenReturn(10_000L);
+    dataSource.checkReplicaLag();
+    inTransaction(true);
+
+    assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    assertThat(meterRegistry.get("greeting.datasource.replica.fallbacks").counter().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("greeting.datasource.replica.lag").timeGauge().value())
+        .isEqualTo(10.0);
+  }
+
+  private Connection connection() {
+    try {
+      return dataSource.getConnection();
+    } catch (SQLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void inTransaction(boolean readOnly) {
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+  }
+}
@@ -0,0 +1,98 @@
+plugins {
+    alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
+}
+
+val springBootVersion: String by project
+
+dependencies {
+    jmh(project(":adapters"))
+
+    // Serializers under test
+    jmh(libs.spring.kafka)
+    jmh(libs.spring.boot.starter.data.redis)
+    jmh(libs.spring.boot.starter.json)
+
+    // gRPC messages and stubs
+    jmh(libs.grpc.protobuf)
+    jmh(libs.grpc.stub)
+    jmh(libs.protobuf.java)
+    jmh(libs.grpc.inprocess)
+
+    // Insert locality benchmark against a real database
+    jmh(libs.postgresql)
+
+    // Cache policy replay
+    jmh(libs.micrometer.core)
+
+    // Producer profiles against an embedded broker
+    jmh(libs.spring.kafka.test)
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:$springBootVersion")
+    }
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh.asProvider())
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    // The embedded Kafka broker takes the benchmark jar past 65535 entries.
+    zip64.set(true)
+
+    // e.g. ./gradlew :benchmarks:jmh -PjmhIncludes=GreetingService -PjmhProfilers=gc
+    // Benchmarks that need external services or start a broker only run when selected explicitly.
+    val jmhIncludes = providers.gradleProperty("jmhIncludes").orNull
+    if (jmhIncludes != null) {
+        includes.set(jmhIncludes.split(","))
+    } else {
+        excludes.addAll("IdInsertLocalityBenchmark", "KafkaProducerBenchmark")
+    }
+    providers.gradleProperty("jmhProfilers").orNull?.let { profilers.set(it.split(",")) }
+}
+
+tasks.register<JavaExec>("replayCachePolicies") {
+    description = "Replays a greeting access trace (-Ptrace=file) through each Redis cache policy."
+    group = "benchmark"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.template.benchmarks.CachePolicyReplay")
+    providers.gradleProperty("trace").orNull?.let { args(rootProject.file(it).absolutePath) }
+}
+
+tasks.register<JavaExec>("startupBenchmark") {
+    description = "Measures time to first request of the runtime jar (-Paot adds the AOT mode)."
+    group = "benchmark"
+    val bootJar = tasks.getByPath(":runtime:bootJar")
+    dependsOn(bootJar)
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.template.benchmarks.StartupBenchmark")
+    doFirst {
+        args(bootJar.outputs.files.singleFile.absolutePath)
+        providers.gradleProperty("startupRuns").orNull?.let { args(it) }
+    }
+}
+
+tasks.register<JavaExec>("compareImages") {
+    description = "Compares startup, RSS and throughput of container images (-PjvmImage, -PnativeImage)."
+    group = "benchmark"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.template.benchmarks.ImageComparison")
+    args(
+        providers.gradleProperty("jvmImage").getOrElse("template"),
+        providers.gradleProperty("nativeImage").getOrElse("template-native"),
+    )
+}
+
+tasks.register<JavaExec>("grpcLoadTest") {
+    description = "Open-loop GetGreeting load against an in-process server, with and without overload protection."
+    group = "benchmark"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.template.benchmarks.GrpcLoadTest")
+    args(
+        providers.gradleProperty("rps").getOrElse("2000"),
+        providers.gradleProperty("duration").getOrElse("10"),
+        providers.gradleProperty("serviceMillis").getOrElse("5"),
+    )
+}
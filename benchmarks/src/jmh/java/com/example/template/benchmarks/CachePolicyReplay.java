@@ -0,0 +1,169 @@
+package com.example.template.benchmarks;
+
+import com.example.template.adapters.out.cache.AdaptiveCachePolicy;
+import com.example.template.adapters.out.cache.CachePolicy;
+import com.example.template.domain.Greeting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Replays a greeting access trace through each Redis cache policy and prints hit ratio, Redis
+ * writes and resident entries. Redis is modelled as a map with per-entry expiry and no memory
+ * limit, so the resident count is the memory a policy would use.
+ *
+ * <p>A trace has one access per line, {@code <epoch millis> <read|write> <greeting id>}, in time
+ * order; lines starting with {@code #} are ignored. A {@code write} is a created greeting, a {@code
+ * read} a lookup. Without a trace file a synthetic one is generated: greetings are created at a
+ * steady rate and reads favour recent greetings, so most are read a few times and many never.
+ *
+ * <p>{@code ./gradlew :benchmarks:replayCachePolicies [-Ptrace=path/to/trace.txt]}
+ */
+public final class CachePolicyReplay {
+  private static final Duration TTL = Duration.ofMinutes(30);
+  private static final Duration SAMPLE_INTERVAL = Duration.ofMinutes(1);
+  private static final String MESSAGE = "Hello, Replay!";
+
+  private CachePolicyReplay() {}
+
+  public static void main(String[] args) {
+    Supplier<Stream<Access>> trace =
+        args.length > 0 ? () -> readTrace(Path.of(args[0])) : CachePolicyReplay::syntheticTrace;
+
+    var policies = new LinkedHashMap<String, Supplier<CachePolicy>>();
+    policies.put("fixed", () -> CachePolicy.fixed(TTL));
+    policies.put("adaptive", () -> adaptive(1));
+    policies.put("adaptive-admit-after-2", () -> adaptive(2));
+    policies.put("adaptive-admit-all", () -> adaptive(0));
+
+    System.out.printf(
+        "%-24s %10s %12s %12s %14s %14s%n",
+        "policy", "hit ratio", "lookups", "writes", "avg resident", "peak resident");
+    policies.forEach(
+        (name, policy) -> {
+          try (var accesses = trace.get()) {
+            var result = replay(policy.get(), accesses.iterator());
+            System.out.printf(
+                "%-24s %10.4f %12d %12d %14d %14d%n",
+                name,
+                result.hitRatio(),
+                result.lookups(),
+                result.writes(),
+                result.averageResident(),
+                result.peakResident());
+          }
+        });
+  }
+
+  static Result replay(CachePolicy policy, Iterator<Access> accesses) {
+    Map<UUID, Long> expiries = new HashMap<>();
+    long hits = 0;
+    long lookups = 0;
+    long writes = 0;
+    long nextSample = Long.MIN_VALUE;
+    long residentSum = 0;
+    long samples = 0;
+    long peakResident = 0;
+
+    while (accesses.hasNext()) {
+      var access = accesses.next();
+      long now = access.timeMillis();
+      if (now >= nextSample) {
+        expiries.values().removeIf(expiry -> expiry <= now);
+        residentSum += expiries.size();
+        samples++;
+        peakResident = Math.max(peakResident, expiries.size());
+        nextSample = now + SAMPLE_INTERVAL.toMillis();
+      }
+
+      boolean store = true;
+      if (access.read()) {
+        var expiry = expiries.get(access.id());
+        boolean hit = expiry != null && expiry > now;
+        policy.recordAccess(access.id(), hit);
+        lookups++;
+        if (hit) {
+          hits++;
+          store = false;
+        }
+      }
+      if (store) {
+        var ttl = policy.admit(new Greeting(access.id(), MESSAGE));
+        if (ttl.isPresent()) {
+          expiries.put(access.id(), now + ttl.get().toMillis());
+          writes++;
+        }
+      }
+    }
+    return new Result(
+        lookups == 0 ? 0 : (double) hits / lookups,
+        lookups,
+        writes,
+        samples == 0 ? 0 : residentSum / samples,
+        peakResident);
+  }
+
+  private static CachePolicy adaptive(int admitAfter) {
+    return new AdaptiveCachePolicy(
+        100_000, admitAfter, TTL, 8, Duration.ofHours(2), 0.1, new SimpleMeterRegistry());
+  }
+
+  private static Stream<Access> readTrace(Path path) {
+    try {
+      return Files.lines(path)
+          .filter(line -> !line.isBlank() && !line.startsWith("#"))
+          .map(
+              line -> {
+                var fields = line.trim().split("\\s+");
+                var read = "read".equals(fields[1]);
+                return new Access(Long.parseLong(fields[0]), read, UUID.fromString(fields[2]));
+              });
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Six hours of traffic: one create per four lookups. Only a third of the created greetings are
+   * ever looked up, and lookups are skewed towards the newest of those.
+   */
+  private static Stream<Access> syntheticTrace() {
+    var random = new Random(42);
+    List<UUID> read = new ArrayList<>();
+    int accesses = 2_000_000;
+    long spacingMillis = Duration.ofHours(6).toMillis() / accesses;
+    return Stream.iterate(0, i -> i < accesses, i -> i + 1)
+        .map(
+            i -> {
+              long time = i * spacingMillis;
+              if (read.isEmpty() || random.nextInt(5) == 0) {
+                var id = new UUID(random.nextLong(), random.nextLong());
+                if (random.nextInt(3) == 0) {
+                  read.add(id);
+                }
+                return new Access(time, false, id);
+              }
+              double skew = Math.pow(random.nextDouble(), 4);
+              var id = read.get(read.size() - 1 - (int) (skew * read.size()));
+              return new Access(time, true, id);
+            });
+  }
+
+  record Access(long timeMillis, boolean read, UUID id) {}
+
+  record Result(
+      double hitRatio, long lookups, long writes, long averageResident, long peakResident) {}
+}
@@ -0,0 +1,139 @@
+package com.example.template.benchmarks;
+
+import com.example.template.benchmarks.support.DiscardingGreetingEventPublisher;
+import com.example.template.benchmarks.support.InMemoryGreetingCache;
+import com.example.template.benchmarks.support.InMemoryGreetingStore;
+import com.example.template.domain.Greeting;
+import com.example.template.domain.services.GreetingServiceImpl;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link GreetingServiceImpl} over in-memory ports. Each operation has a
+ * single-thread and a contended variant; the contended ones run on every available core against the
+ * same small key set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GreetingServiceBenchmark {
+  private static final int KEY_COUNT = 1024;
+  private static final int BATCH_SIZE = 100;
+
+  private GreetingServiceImpl cachedService;
+  private GreetingServiceImpl uncachedService;
+  private GreetingServiceImpl writeService;
+  private UUID[] ids;
+  private List<UUID> batchIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var store = new InMemoryGreetingStore();
+    var cache = new InMemoryGreetingCache();
+    ids = new UUID[KEY_COUNT];
+    for (int i = 0; i < KEY_COUNT; i++) {
+      var greeting = new Greeting(UUID.randomUUID(), "Hello, " + i + "!");
+      store.save(greeting);
+      cache.put(greeting);
+      ids[i] = greeting.id();
+    }
+    batchIds = IntStream.range(0, BATCH_SIZE).mapToObj(i -> ids[i]).toList();
+
+    var publisher = new DiscardingGreetingEventPublisher();
+    cachedService = new GreetingServiceImpl(store, cache, publisher);
+    uncachedService =
+        new GreetingServiceImpl(store, InMemoryGreetingCache.alwaysMissing(), publisher);
+  }
+
+  @Setup(Level.Iteration)
+  public void resetWrites() {
+    // A fresh store per iteration keeps the write benchmarks from growing the heap without bound.
+    writeService =
+        new GreetingServiceImpl(
+            new InMemoryGreetingStore(),
+            new InMemoryGreetingCache(),
+            new DiscardingGreetingEventPublisher());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Optional<Greeting> getCachedSingleThread(KeyCursor cursor) {
+    return cachedService.getGreeting(ids[cursor.next()]);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Optional<Greeting> getCachedContended(KeyCursor cursor) {
+    return cachedService.getGreeting(ids[cursor.next()]);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Optional<Greeting> getUncachedSingleThread(KeyCursor cursor) {
+    return uncachedService.getGreeting(ids[cursor.next()]);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Optional<Greeting> getUncachedContended(KeyCursor cursor) {
+    return uncachedService.getGreeting(ids[cursor.next()]);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public List<Greeting> getBatchSingleThread() {
+    return cachedService.getGreetings(batchIds);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public List<Greeting> getBatchContended() {
+    return cachedService.getGreetings(batchIds);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Greeting createSingleThread() {
+    return writeService.createGreeting("Benchmark");
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Greeting createContended() {
+    return writeService.createGreeting("Benchmark");
+  }
+
+  /** Per-thread position in the key set, so threads do not contend on the cursor itself. */
+  @State(Scope.Thread)
+  public static class KeyCursor {
+    private int position;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      position = (int) (Thread.currentThread().threadId() % KEY_COUNT);
+    }
+
+    int next() {
+      position = (position + 1) & (KEY_COUNT - 1);
+      return position;
+    }
+  }
+}
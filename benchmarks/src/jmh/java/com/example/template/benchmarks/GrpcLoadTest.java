@@ -0,0 +1,186 @@
+package com.example.template.benchmarks;
+
+import com.example.template.adapters.grpc.generated.GetGreetingRequest;
+import com.example.template.adapters.grpc.generated.GreetingResponse;
+import com.example.template.adapters.grpc.generated.GreetingServiceGrpc;
+import com.example.template.adapters.in.grpc.GrpcGreetingService;
+import com.example.template.adapters.in.grpc.OverloadProtectionServerInterceptor;
+import com.example.template.benchmarks.support.DiscardingGreetingEventPublisher;
+import com.example.template.benchmarks.support.InMemoryGreetingCache;
+import com.example.template.benchmarks.support.InMemoryGreetingStore;
+import com.example.template.domain.Greeting;
+import com.example.template.domain.services.GreetingServiceImpl;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+/**
+ * ghz-style open-loop load test of {@code GetGreeting} against an in-process server. Requests are
+ * sent at a fixed rate whether or not earlier ones have finished, and latency is measured from when
+ * each request was due, so queueing delay is not hidden.
+ *
+ * <p>Each read blocks for {@code serviceMillis} in the store, and the server runs on a fixed pool
+ * of {@link #THREADS} threads. With the defaults the offered load is about 25% above capacity:
+ *
+ * <ul>
+ *   <li>{@code unprotected}: every call queues, and latency grows for as long as the test runs
+ *   <li>{@code protected}: {@link OverloadProtectionServerInterceptor} rejects the excess with
+ *       {@code RESOURCE_EXHAUSTED}, and admitted calls keep a bounded latency
+ * </ul>
+ *
+ * <p>{@code ./gradlew :benchmarks:grpcLoadTest [-Prps=2000] [-Pduration=10] [-PserviceMillis=5]}
+ */
+public final class GrpcLoadTest {
+  private static final int THREADS = 8;
+  private static final int MAX_QUEUED = 64;
+  private static final int GREETINGS = 10_000;
+
+  private GrpcLoadTest() {}
+
+  public static void main(String[] args) throws Exception {
+    int rps = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+    int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+    long serviceMillis = args.length > 2 ? Long.parseLong(args[2]) : 5;
+    System.out.printf(
+        "%d req/s for %ds, %d threads x %dms = %d req/s capacity%n%n",
+        rps, seconds, THREADS, serviceMillis, THREADS * 1000 / serviceMillis);
+
+    run("unprotected", false, rps, seconds, serviceMillis);
+    run("protected", true, rps, seconds, serviceMillis);
+  }
+
+  private static void run(String mode, boolean protect, int rps, int seconds, long serviceMillis)
+      throws Exception {
+    var store =
+        new InMemoryGreetingStore() {
+          @Override
+          public Optional<Greeting> findById(UUID id) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(serviceMillis));
+            return super.findById(id);
+          }
+        };
+    var requests = new GetGreetingRequest[GREETINGS];
+    for (int i = 0; i < GREETINGS; i++) {
+      var greeting = new Greeting(UUID.randomUUID(), "Hello, " + i + "!");
+      store.save(greeting);
+      requests[i] = GetGreetingRequest.newBuilder().setId(greeting.id().toString()).build();
+    }
+    var greetingService =
+        new GreetingServiceImpl(
+            store, InMemoryGreetingCache.alwaysMissing(), new DiscardingGreetingEventPublisher());
+
+    var executor =
+        new ThreadPoolExecutor(
+            THREADS, THREADS, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+    var service = new GrpcGreetingService(greetingService).bindService();
+    if (protect) {
+      var interceptor =
+          new OverloadProtectionServerInterceptor(
+              () -> executor.getQueue().size(), MAX_QUEUED, new SimpleMeterRegistry());
+      service = ServerInterceptors.intercept(service, interceptor);
+    }
+    var name = InProcessServerBuilder.generateName();
+    var server =
+        InProcessServerBuilder.forName(name).executor(executor).addService(service).build().start();
+    var channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    var stub = GreetingServiceGrpc.newFutureStub(channel);
+
+    int total = rps * seconds;
+    long interval = TimeUnit.SECONDS.toNanos(1) / rps;
+    var latencies = new long[total];
+    var ok = new boolean[total];
+    Map<Status.Code, LongAdder> statuses = new ConcurrentHashMap<>();
+    var done = new CountDownLatch(total);
+    long start = System.nanoTime();
+    for (int i = 0; i < total; i++) {
+      long due = start + i * interval;
+      long wait = due - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      int index = i;
+      var response =
+          stub.withDeadlineAfter(20, TimeUnit.SECONDS).getGreeting(requests[i % GREETINGS]);
+      Futures.addCallback(
+          response,
+          new FutureCallback<GreetingResponse>() {
+            @Override
+            public void onSuccess(GreetingResponse result) {
+              complete(Status.Code.OK);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+              complete(Status.fromThrowable(t).getCode());
+            }
+
+            private void complete(Status.Code code) {
+              latencies[index] = System.nanoTime() - due;
+              ok[index] = code == Status.Code.OK;
+              statuses.computeIfAbsent(code, c -> new LongAdder()).increment();
+              done.countDown();
+            }
+          },
+          MoreExecutors.directExecutor());
+    }
+    done.await(1, TimeUnit.MINUTES);
+    long elapsed = System.nanoTime() - start;
+
+    channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    executor.shutdownNow();
+    report(mode, latencies, ok, statuses, elapsed);
+  }
+
+  /** Summary over all responses; the latency distribution covers successful ones only. */
+  private static void report(
+      String mode,
+      long[] latencies,
+      boolean[] ok,
+      Map<Status.Code, LongAdder> statuses,
+      long elapsed) {
+    var sorted = latencies.clone();
+    Arrays.sort(sorted);
+    var succeeded =
+        IntStream.range(0, latencies.length).filter(i -> ok[i]).mapToLong(i -> latencies[i]);
+    var okSorted = succeeded.sorted().toArray();
+    System.out.printf("%s%n", mode);
+    System.out.printf("  Summary:%n");
+    System.out.printf("    Count:        %d%n", sorted.length);
+    System.out.printf("    Total:        %.2f s%n", elapsed / 1e9);
+    System.out.printf("    Fastest:      %.2f ms%n", sorted[0] / 1e6);
+    System.out.printf("    Slowest:      %.2f ms%n", sorted[sorted.length - 1] / 1e6);
+    double average = Arrays.stream(sorted).average().orElse(0);
+    System.out.printf("    Average:      %.2f ms%n", average / 1e6);
+    System.out.printf("    Requests/sec: %.2f%n", sorted.length / (elapsed / 1e9));
+    System.out.printf("  Latency distribution (OK):%n");
+    for (double percentile : new double[] {0.5, 0.9, 0.99}) {
+      if (okSorted.length > 0) {
+        int index = (int) Math.ceil(percentile * okSorted.length) - 1;
+        System.out.printf("    %2.0f %% in %.2f ms%n", percentile * 100, okSorted[index] / 1e6);
+      }
+    }
+    System.out.printf("  Status code distribution:%n");
+    new EnumMap<>(statuses)
+        .forEach((code, count) -> System.out.printf("    [%s] %d responses%n", code, count.sum()));
+    System.out.println();
+  }
+}
@@ -0,0 +1,90 @@
+package com.example.template.benchmarks;
+
+import com.example.template.adapters.grpc.generated.BatchGetGreetingsRequest;
+import com.example.template.adapters.grpc.generated.BatchGetGreetingsResponse;
+import com.example.template.adapters.grpc.generated.GetGreetingRequest;
+import com.example.template.adapters.grpc.generated.GreetingResponse;
+import com.example.template.adapters.in.grpc.GrpcGreetingService;
+import com.example.template.benchmarks.support.BlackholeStreamObserver;
+import com.example.template.benchmarks.support.DiscardingGreetingEventPublisher;
+import com.example.template.benchmarks.support.InMemoryGreetingCache;
+import com.example.template.benchmarks.support.InMemoryGreetingStore;
+import com.example.template.domain.Greeting;
+import com.example.template.domain.services.GreetingServiceImpl;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Request parsing and response building in {@link GrpcGreetingService}, called directly without a
+ * transport. The service behind it answers from an in-memory cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GrpcMappingBenchmark {
+  private static final int BATCH_SIZE = 100;
+
+  private GrpcGreetingService grpcService;
+  private GetGreetingRequest getRequest;
+  private BatchGetGreetingsRequest batchRequest;
+
+  @Setup
+  public void setUp() {
+    var store = new InMemoryGreetingStore();
+    var cache = new InMemoryGreetingCache();
+    var batch = BatchGetGreetingsRequest.newBuilder();
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      var greeting = new Greeting(UUID.randomUUID(), "Hello, " + i + "!");
+      store.save(greeting);
+      cache.put(greeting);
+      batch.addIds(greeting.id().toString());
+    }
+    batchRequest = batch.build();
+    getRequest = GetGreetingRequest.newBuilder().setId(batchRequest.getIds(0)).build();
+
+    grpcService =
+        new GrpcGreetingService(
+            new GreetingServiceImpl(store, cache, new DiscardingGreetingEventPublisher()));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void getGreetingSingleThread(Blackhole blackhole) {
+    grpcService.getGreeting(getRequest, new BlackholeStreamObserver<GreetingResponse>(blackhole));
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public void getGreetingContended(Blackhole blackhole) {
+    grpcService.getGreeting(getRequest, new BlackholeStreamObserver<GreetingResponse>(blackhole));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void batchGetGreetingsSingleThread(Blackhole blackhole) {
+    grpcService.batchGetGreetings(
+        batchRequest, new BlackholeStreamObserver<BatchGetGreetingsResponse>(blackhole));
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public void batchGetGreetingsContended(Blackhole blackhole) {
+    grpcService.batchGetGreetings(
+        batchRequest, new BlackholeStreamObserver<BatchGetGreetingsResponse>(blackhole));
+  }
+}
@@ -0,0 +1,128 @@
+package com.example.template.benchmarks;
+
+import com.example.template.adapters.grpc.generated.GetGreetingRequest;
+import com.example.template.adapters.grpc.generated.GreetingResponse;
+import com.example.template.adapters.grpc.generated.GreetingServiceGrpc;
+import com.example.template.adapters.in.grpc.MetricsServerInterceptor;
+import com.example.template.benchmarks.support.LegacyMetricsServerInterceptor;
+import io.grpc.Attributes;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the server metrics interceptor on one unary call, driven directly through the listener
+ * and call callbacks so no transport work hides it. Run with {@code -PjmhProfilers=gc} to compare
+ * {@code gc.alloc.rate.norm} between the per-call timer registration ({@code legacy}), the
+ * precomputed meters, and no interceptor at all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GrpcServerMetricsBenchmark {
+  private static final GetGreetingRequest REQUEST =
+      GetGreetingRequest.newBuilder().setId(UUID.randomUUID().toString()).build();
+  private static final GreetingResponse RESPONSE =
+      GreetingResponse.newBuilder().setId(REQUEST.getId()).setMessage("Hello, User!").build();
+
+  @Param({"none", "legacy", "precomputed"})
+  public String interceptor;
+
+  private ServerInterceptor serverInterceptor;
+  private final Metadata metadata = new Metadata();
+  private final ServerCall<GetGreetingRequest, GreetingResponse> call = new NoopServerCall();
+  private final ServerCallHandler<GetGreetingRequest, GreetingResponse> handler =
+      (serverCall, headers) ->
+          new ServerCall.Listener<>() {
+            @Override
+            public void onHalfClose() {
+              serverCall.sendHeaders(metadata);
+              serverCall.sendMessage(RESPONSE);
+              serverCall.close(Status.OK, metadata);
+            }
+          };
+
+  @Setup
+  public void setUp() {
+    var meterRegistry = new SimpleMeterRegistry();
+    serverInterceptor =
+        switch (interceptor) {
+          case "none" ->
+              new ServerInterceptor() {
+                @Override
+                public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+                    ServerCall<ReqT, RespT> serverCall,
+                    Metadata headers,
+                    ServerCallHandler<ReqT, RespT> next) {
+                  return next.startCall(serverCall, headers);
+                }
+              };
+          case "legacy" -> new LegacyMetricsServerInterceptor(meterRegistry);
+          case "precomputed" ->
+              new MetricsServerInterceptor(
+                  meterRegistry, List.of(GreetingServiceGrpc.getServiceDescriptor()));
+          default -> throw new IllegalArgumentException(interceptor);
+        };
+  }
+
+  @Benchmark
+  public ServerCall.Listener<GetGreetingRequest> unaryCall() {
+    var listener = serverInterceptor.interceptCall(call, metadata, handler);
+    listener.onReady();
+    listener.onMessage(REQUEST);
+    listener.onHalfClose();
+    listener.onComplete();
+    return listener;
+  }
+
+  private static final class NoopServerCall
+      extends ServerCall<GetGreetingRequest, GreetingResponse> {
+    @Override
+    public void request(int numMessages) {}
+
+    @Override
+    public void sendHeaders(Metadata headers) {}
+
+    @Override
+    public void sendMessage(GreetingResponse message) {}
+
+    @Override
+    public void close(Status status, Metadata trailers) {}
+
+    @Override
+    public boolean isCancelled() {
+      return false;
+    }
+
+    @Override
+    public Attributes getAttributes() {
+      return Attributes.EMPTY;
+    }
+
+    @Override
+    public MethodDescriptor<GetGreetingRequest, GreetingResponse> getMethodDescriptor() {
+      return GreetingServiceGrpc.getGetGreetingMethod();
+    }
+  }
+}
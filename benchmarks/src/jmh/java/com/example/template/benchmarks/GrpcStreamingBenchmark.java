@@ -0,0 +1,135 @@
+package com.example.template.benchmarks;
+
+import com.example.template.adapters.grpc.generated.CreateGreetingRequest;
+import com.example.template.adapters.grpc.generated.CreateGreetingsResponse;
+import com.example.template.adapters.grpc.generated.GetGreetingRequest;
+import com.example.template.adapters.grpc.generated.GreetingServiceGrpc;
+import com.example.template.adapters.grpc.generated.StreamGreetingsRequest;
+import com.example.template.adapters.in.grpc.GrpcGreetingService;
+import com.example.template.benchmarks.support.DiscardingGreetingEventPublisher;
+import com.example.template.benchmarks.support.InMemoryGreetingCache;
+import com.example.template.benchmarks.support.InMemoryGreetingStore;
+import com.example.template.domain.Greeting;
+import com.example.template.domain.services.GreetingServiceImpl;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Bulk import and export of {@link #GREETINGS} greetings through the unary RPCs versus the
+ * streaming ones, over an in-process transport. Each operation moves the whole set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GrpcStreamingBenchmark {
+  private static final int GREETINGS = 1_000;
+
+  private Server server;
+  private ManagedChannel channel;
+  private GreetingServiceGrpc.GreetingServiceBlockingStub blockingStub;
+  private GreetingServiceGrpc.GreetingServiceStub asyncStub;
+  private GetGreetingRequest[] getRequests;
+
+  @Setup(Level.Iteration)
+  public void setUp() throws IOException {
+    var store = new InMemoryGreetingStore();
+    getRequests = new GetGreetingRequest[GREETINGS];
+    for (int i = 0; i < GREETINGS; i++) {
+      var greeting = new Greeting(UUID.randomUUID(), "Hello, " + i + "!");
+      store.save(greeting);
+      getRequests[i] = GetGreetingRequest.newBuilder().setId(greeting.id().toString()).build();
+    }
+    // Reads bypass the cache so both export paths hit the store. JMH gives every benchmark method
+    // its own state, so imports never grow the set that the export benchmarks read.
+    var service =
+        new GreetingServiceImpl(
+            store, InMemoryGreetingCache.alwaysMissing(), new DiscardingGreetingEventPublisher());
+
+    var name = InProcessServerBuilder.generateName();
+    server =
+        InProcessServerBuilder.forName(name)
+            .addService(new GrpcGreetingService(service))
+            .build()
+            .start();
+    channel = InProcessChannelBuilder.forName(name).build();
+    blockingStub = GreetingServiceGrpc.newBlockingStub(channel);
+    asyncStub = GreetingServiceGrpc.newStub(channel);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() throws InterruptedException {
+    channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void importUnary(Blackhole blackhole) {
+    for (int i = 0; i < GREETINGS; i++) {
+      blackhole.consume(
+          blockingStub.createGreeting(CreateGreetingRequest.newBuilder().setName("Bulk").build()));
+    }
+  }
+
+  @Benchmark
+  public CreateGreetingsResponse importStreaming() throws Exception {
+    var result = new CompletableFuture<CreateGreetingsResponse>();
+    var requests =
+        asyncStub.createGreetings(
+            new StreamObserver<>() {
+              @Override
+              public void onNext(CreateGreetingsResponse response) {
+                result.complete(response);
+              }
+
+              @Override
+              public void onError(Throwable t) {
+                result.completeExceptionally(t);
+              }
+
+              @Override
+              public void onCompleted() {}
+            });
+    for (int i = 0; i < GREETINGS; i++) {
+      requests.onNext(CreateGreetingRequest.newBuilder().setName("Bulk").build());
+    }
+    requests.onCompleted();
+    return result.get(30, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void exportUnary(Blackhole blackhole) {
+    for (var request : getRequests) {
+      blackhole.consume(blockingStub.getGreeting(request));
+    }
+  }
+
+  @Benchmark
+  public void exportStreaming(Blackhole blackhole) {
+    blockingStub
+        .streamGreetings(StreamGreetingsRequest.getDefaultInstance())
+        .forEachRemaining(blackhole::consume);
+  }
+}
@@ -0,0 +1,57 @@
+package com.example.template.benchmarks;
+
+import com.example.template.domain.ports.out.IdGenerator;
+import com.example.template.domain.services.UuidV7Generator;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Id generation cost. The UUIDv7 generator shares one counter across threads, so the contended
+ * variants show what that CAS costs next to {@link UUID#randomUUID()}, which has no shared state
+ * but reads from {@code SecureRandom}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGeneratorBenchmark {
+  private final IdGenerator random = IdGenerator.random();
+  private final IdGenerator uuidV7 = new UuidV7Generator(Clock.systemUTC());
+
+  @Benchmark
+  @Threads(1)
+  public UUID randomSingleThread() {
+    return random.nextId();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public UUID randomContended() {
+    return random.nextId();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public UUID uuidV7SingleThread() {
+    return uuidV7.nextId();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public UUID uuidV7Contended() {
+    return uuidV7.nextId();
+  }
+}
@@ -0,0 +1,121 @@
+package com.example.template.benchmarks;
+
+import com.example.template.domain.ports.out.IdGenerator;
+import com.example.template.domain.services.UuidV7Generator;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bulk inserts into a table shaped like {@code greetings}, keyed by random v4 or time-ordered v7
+ * UUIDs, against a real PostgreSQL (the one from {@code compose.yaml} by default, override with
+ * {@code BENCHMARK_JDBC_URL}, {@code BENCHMARK_JDBC_USER} and {@code BENCHMARK_JDBC_PASSWORD}). The
+ * score is the time to insert all rows; rows per second and the size of the table and its primary
+ * key index are printed at the end of each trial.
+ *
+ * <p>Not part of the default run: {@code ./gradlew :benchmarks:jmh -PjmhIncludes=IdInsertLocality}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(1)
+public class IdInsertLocalityBenchmark {
+  private static final String TABLE = "id_locality_benchmark";
+  private static final int BATCH_SIZE = 10_000;
+
+  @Param({"random", "v7"})
+  public String ids;
+
+  @Param({"10000000"})
+  public int rows;
+
+  private Connection connection;
+  private IdGenerator generator;
+  private long elapsedNanos;
+
+  @Setup
+  public void setUp() throws SQLException {
+    var properties = new Properties();
+    properties.setProperty("user", env("BENCHMARK_JDBC_USER", "template"));
+    properties.setProperty("password", env("BENCHMARK_JDBC_PASSWORD", "template"));
+    properties.setProperty("reWriteBatchedInserts", "true");
+    connection =
+        DriverManager.getConnection(
+            env("BENCHMARK_JDBC_URL", "jdbc:postgresql://localhost:5432/template"), properties);
+
+    try (var statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + TABLE);
+      statement.execute(
+          "CREATE TABLE " + TABLE + " (id UUID PRIMARY KEY, message VARCHAR(512) NOT NULL)");
+    }
+    connection.setAutoCommit(false);
+    generator =
+        switch (ids) {
+          case "random" -> IdGenerator.random();
+          case "v7" -> new UuidV7Generator(Clock.systemUTC());
+          default -> throw new IllegalArgumentException("Unknown id type: " + ids);
+        };
+  }
+
+  @Benchmark
+  public int insert() throws SQLException {
+    long start = System.nanoTime();
+    try (var insert =
+        connection.prepareStatement("INSERT INTO " + TABLE + " (id, message) VALUES (?, ?)")) {
+      for (int i = 1; i <= rows; i++) {
+        insert.setObject(1, generator.nextId());
+        insert.setString(2, "Hello, " + i + "!");
+        insert.addBatch();
+        if (i % BATCH_SIZE == 0 || i == rows) {
+          insert.executeBatch();
+          connection.commit();
+        }
+      }
+    }
+    elapsedNanos = System.nanoTime() - start;
+    return rows;
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    try (var statement = connection.createStatement()) {
+      try (var sizes =
+          statement.executeQuery(
+              "SELECT pg_relation_size('" + TABLE + "'), pg_relation_size('" + TABLE + "_pkey')")) {
+        sizes.next();
+        System.out.printf(
+            "%n%s: %,d rows/s, table %,d MB, primary key index %,d MB%n",
+            ids,
+            rows * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1),
+            sizes.getLong(1) >> 20,
+            sizes.getLong(2) >> 20);
+      }
+      statement.execute("DROP TABLE " + TABLE);
+      connection.commit();
+    } finally {
+      connection.close();
+    }
+  }
+
+  private static String env(String name, String defaultValue) {
+    return Objects.requireNonNullElse(System.getenv(name), defaultValue);
+  }
+}
@@ -0,0 +1,150 @@
+package com.example.template.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares container images of the application, typically the JVM image from {@code Dockerfile} and
+ * the native one from {@code Dockerfile.native}. For each image it reports:
+ *
+ * <ul>
+ *   <li>time from {@code docker run} until {@code GET /api/v1/greetings?limit=1} first answers 200
+ *   <li>resident set size of the application process when idle and after the load
+ *   <li>steady-state throughput of that request from concurrent clients, after a warmup
+ * </ul>
+ *
+ * <p>Containers use the host network so they reach the services from {@code compose.yaml}. RSS is
+ * read from {@code /proc} on the host, which needs a Linux Docker host; elsewhere the container
+ * memory usage from {@code docker stats} is shown instead.
+ *
+ * <p>{@code ./gradlew :benchmarks:compareImages -PjvmImage=template -PnativeImage=template-native}
+ */
+public final class ImageComparison {
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+  private static final Duration WARMUP = Duration.ofSeconds(30);
+  private static final Duration MEASUREMENT = Duration.ofSeconds(30);
+  private static final int CLIENTS = 16;
+  private static final int HTTP_PORT = 18080;
+  private static final int GRPC_PORT = 19090;
+
+  private ImageComparison() {}
+
+  public static void main(String[] images) throws Exception {
+    var client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    var uri = URI.create("http://localhost:" + HTTP_PORT + "/api/v1/greetings?limit=1");
+    var request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).build();
+
+    System.out.printf(
+        "%-30s %12s %14s %14s %12s%n", "image", "startup ms", "idle rss", "loaded rss", "req/s");
+    for (var image : images) {
+      var container = "image-comparison-" + ProcessHandle.current().pid();
+      long start = System.nanoTime();
+      docker(
+          "run",
+          "-d",
+          "--rm",
+          "--name",
+          container,
+          "--network",
+          "host",
+          "-e",
+          "SERVER_PORT=" + HTTP_PORT,
+          "-e",
+          "GRPC_SERVER_PORT=" + GRPC_PORT,
+          image);
+      try {
+        long startupMillis = awaitFirstResponse(client, request, start);
+        var idleRss = rss(container);
+        run(client, request, WARMUP);
+        long requests = run(client, request, MEASUREMENT);
+        var loadedRss = rss(container);
+        System.out.printf(
+            "%-30s %12d %14s %14s %12d%n",
+            image, startupMillis, idleRss, loadedRss, requests / MEASUREMENT.toSeconds());
+      } finally {
+        docker("stop", "--time", "10", container);
+      }
+    }
+  }
+
+  private static long awaitFirstResponse(HttpClient client, HttpRequest request, long start)
+      throws InterruptedException {
+    while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+      try {
+        if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+          return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+      } catch (IOException e) {
+        // Not listening yet.
+      }
+      Thread.sleep(10);
+    }
+    throw new IllegalStateException("No response within " + STARTUP_TIMEOUT);
+  }
+
+  /** Sends requests from {@link #CLIENTS} threads for {@code duration}; returns the 200s. */
+  private static long run(HttpClient client, HttpRequest request, Duration duration)
+      throws InterruptedException {
+    var ok = new LongAdder();
+    long deadline = System.nanoTime() + duration.toNanos();
+    try (var executor = Executors.newFixedThreadPool(CLIENTS)) {
+      for (int i = 0; i < CLIENTS; i++) {
+        executor.execute(
+            () -> {
+              while (System.nanoTime() < deadline) {
+                try {
+                  var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                  if (response.statusCode() == 200) {
+                    ok.increment();
+                  }
+                } catch (IOException e) {
+                  // Counted as a failed request.
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  return;
+                }
+              }
+            });
+      }
+    }
+    return ok.sum();
+  }
+
+  private static String rss(String container) throws IOException, InterruptedException {
+    var pid = docker("inspect", "--format", "{{.State.Pid}}", container).trim();
+    var status = Path.of("/proc", pid, "status");
+    if (Files.isReadable(status)) {
+      for (var line : Files.readAllLines(status)) {
+        if (line.startsWith("VmRSS:")) {
+          long kib = Long.parseLong(line.replaceAll("\\D", ""));
+          return (kib / 1024) + " MiB";
+        }
+      }
+    }
+    var usage = docker("stats", "--no-stream", "--format", "{{.MemUsage}}", container);
+    return usage.substring(0, usage.indexOf('/')).trim();
+  }
+
+  private static String docker(String... args) throws IOException, InterruptedException {
+    var command = new ArrayList<String>(List.of("docker"));
+    command.addAll(List.of(args));
+    var process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    var output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    if (process.waitFor() != 0) {
+      throw new IllegalStateException(String.join(" ", command) + " failed: " + output);
+    }
+    return output;
+  }
+}
@@ -0,0 +1,116 @@
+package com.example.template.benchmarks;
+
+import com.example.template.adapters.codec.GreetingEventKafkaSerializer;
+import com.example.template.adapters.out.messaging.KafkaGreetingEventPublisher;
+import com.example.template.adapters.out.messaging.ProducerProfile;
+import com.example.template.domain.events.GreetingCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+/**
+ * Publishes greeting events to an embedded single-node broker with each producer profile, the same
+ * way the outbox relay does: a batch of {@link #BATCH} sends, then wait for every ack. {@code
+ * sendOne} measures one event end to end. The producer's batch size, record queue time and
+ * compression rate are printed after each iteration.
+ *
+ * <p>{@code ./gradlew :benchmarks:jmh -PjmhIncludes=KafkaProducerBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class KafkaProducerBenchmark {
+  private static final String TOPIC = "greeting-events";
+  private static final int BATCH = 500;
+  private static final Set<String> REPORTED_METRICS =
+      Set.of("batch-size-avg", "record-queue-time-avg", "compression-rate-avg");
+
+  @Param({"default", "throughput", "latency"})
+  public String profile;
+
+  private EmbeddedKafkaKraftBroker broker;
+  private DefaultKafkaProducerFactory<String, GreetingCreatedEvent> producerFactory;
+  private KafkaTemplate<String, GreetingCreatedEvent> template;
+  private KafkaGreetingEventPublisher publisher;
+  private List<GreetingCreatedEvent> batch;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    broker = new EmbeddedKafkaKraftBroker(1, 6, TOPIC);
+    broker.afterPropertiesSet();
+
+    var config = new HashMap<>(ProducerProfile.valueOf(profile.toUpperCase()).settings());
+    config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+    config.put(ProducerConfig.ACKS_CONFIG, "all");
+    config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+    producerFactory =
+        new DefaultKafkaProducerFactory<>(
+            config, new StringSerializer(), new GreetingEventKafkaSerializer());
+    template = new KafkaTemplate<>(producerFactory);
+    publisher =
+        new KafkaGreetingEventPublisher(
+            template, new SimpleMeterRegistry(), 10_000, Duration.ofSeconds(1));
+    // Similar messages, as real greetings are, so compression has something to work with.
+    batch =
+        IntStream.range(0, BATCH)
+            .mapToObj(i -> GreetingCreatedEvent.from(UUID.randomUUID(), "Hello, user " + i + "!"))
+            .toList();
+  }
+
+  @TearDown(Level.Iteration)
+  public void reportProducerMetrics() {
+    var line = new StringBuilder("\n" + profile + ":");
+    template
+        .metrics()
+        .forEach(
+            (name, metric) -> {
+              if (name.group().equals("producer-metrics")
+                  && REPORTED_METRICS.contains(name.name())) {
+                line.append(' ').append(name.name()).append('=').append(metric.metricValue());
+              }
+            });
+    System.out.println(line);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    producerFactory.destroy();
+    broker.destroy();
+  }
+
+  @Benchmark
+  public void sendBatch() throws Exception {
+    publisher.sendAll(batch).get(30, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void sendOne() throws Exception {
+    publisher.sendAll(batch.subList(0, 1)).get(30, TimeUnit.SECONDS);
+  }
+}
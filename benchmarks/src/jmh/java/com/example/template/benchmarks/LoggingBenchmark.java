@@ -0,0 +1,130 @@
+package com.example.template.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import com.example.template.adapters.grpc.generated.GetGreetingRequest;
+import com.example.template.adapters.grpc.generated.GreetingResponse;
+import com.example.template.adapters.in.grpc.GrpcGreetingService;
+import com.example.template.benchmarks.support.BlackholeStreamObserver;
+import com.example.template.benchmarks.support.DiscardingGreetingEventPublisher;
+import com.example.template.benchmarks.support.InMemoryGreetingCache;
+import com.example.template.benchmarks.support.InMemoryGreetingStore;
+import com.example.template.domain.Greeting;
+import com.example.template.domain.services.GreetingServiceImpl;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link GrpcGreetingService#getGreeting} throughput, which logs two INFO lines per call, with
+ * logging off, written synchronously to a file with the application's console pattern, and handed
+ * to an {@link AsyncAppender} set up like the {@code async-logging} profile (8192 slots, INFO
+ * dropped once a fifth are left).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+  private static final String PATTERN =
+      "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %-5level [%thread] %logger{36} - %msg"
+          + " traceId=%X{traceId:-} spanId=%X{spanId:-}%n";
+  private static final int QUEUE_SIZE = 8192;
+
+  @Param({"off", "sync", "async"})
+  public String logging;
+
+  private GrpcGreetingService grpcService;
+  private GetGreetingRequest request;
+  private LoggerContext context;
+  private Path logFile;
+
+  @Setup
+  public void setUp() throws IOException {
+    logFile = Files.createTempFile("logging-benchmark", ".log");
+    context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    context.reset();
+
+    var encoder = new PatternLayoutEncoder();
+    encoder.setContext(context);
+    encoder.setPattern(PATTERN);
+    encoder.start();
+    var file = new FileAppender<ILoggingEvent>();
+    file.setContext(context);
+    file.setFile(logFile.toString());
+    file.setEncoder(encoder);
+    file.start();
+
+    var root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+    switch (logging) {
+      case "off" -> root.setLevel(Level.WARN);
+      case "sync" -> {
+        root.setLevel(Level.INFO);
+        root.addAppender(file);
+      }
+      case "async" -> {
+        var async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(QUEUE_SIZE);
+        async.setDiscardingThreshold(QUEUE_SIZE / 5);
+        async.addAppender(file);
+        async.start();
+        root.setLevel(Level.INFO);
+        root.addAppender(async);
+      }
+      default -> throw new IllegalArgumentException(logging);
+    }
+
+    var store = new InMemoryGreetingStore();
+    var cache = new InMemoryGreetingCache();
+    var greeting = new Greeting(UUID.randomUUID(), "Hello, User!");
+    store.save(greeting);
+    cache.put(greeting);
+    request = GetGreetingRequest.newBuilder().setId(greeting.id().toString()).build();
+    grpcService =
+        new GrpcGreetingService(
+            new GreetingServiceImpl(store, cache, new DiscardingGreetingEventPublisher()));
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    context.reset();
+    Files.deleteIfExists(logFile);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void getGreetingSingleThread(Blackhole blackhole) {
+    grpcService.getGreeting(request, new BlackholeStreamObserver<GreetingResponse>(blackhole));
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public void getGreetingContended(Blackhole blackhole) {
+    grpcService.getGreeting(request, new BlackholeStreamObserver<GreetingResponse>(blackhole));
+  }
+}
@@ -0,0 +1,74 @@
+package com.example.template.benchmarks;
+
+import com.example.template.adapters.out.persistence.GreetingEntity;
+import com.example.template.domain.Greeting;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Mapping between {@link Greeting} and {@link GreetingEntity}, as done by JpaGreetingStore. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceMappingBenchmark {
+  private static final int BATCH_SIZE = 100;
+
+  private Greeting greeting;
+  private GreetingEntity entity;
+  private List<GreetingEntity> entities;
+
+  @Setup
+  public void setUp() {
+    greeting = new Greeting(UUID.randomUUID(), "Hello, Benchmark!");
+    entity = GreetingEntity.from(greeting);
+    entities =
+        IntStream.range(0, BATCH_SIZE)
+            .mapToObj(i -> new GreetingEntity(UUID.randomUUID(), "Hello, " + i + "!"))
+            .toList();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public GreetingEntity toEntitySingleThread() {
+    return GreetingEntity.from(greeting);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public GreetingEntity toEntityContended() {
+    return GreetingEntity.from(greeting);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Greeting toDomainSingleThread() {
+    return entity.toDomain();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Greeting toDomainContended() {
+    return entity.toDomain();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public List<Greeting> toDomainBatch() {
+    return entities.stream().map(GreetingEntity::toDomain).toList();
+  }
+}
@@ -0,0 +1,127 @@
+package com.example.template.benchmarks;
+
+import com.example.template.adapters.codec.GreetingEventKafkaDeserializer;
+import com.example.template.adapters.codec.GreetingEventKafkaSerializer;
+import com.example.template.adapters.codec.GreetingRedisSerializer;
+import com.example.template.adapters.codec.WireFormat;
+import com.example.template.domain.Greeting;
+import com.example.template.domain.events.GreetingCreatedEvent;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * Compares the binary codec against the JSON serializers it replaces, for Kafka events and Redis
+ * values. Run with {@code ./gradlew :benchmarks:jmh -PjmhIncludes=SerializationBenchmark}; add
+ * {@code -PjmhProfilers=gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+  private static final String TOPIC = "greeting-events";
+
+  private GreetingCreatedEvent event;
+  private Greeting greeting;
+
+  private JsonSerializer<GreetingCreatedEvent> jsonEventSerializer;
+  private JsonDeserializer<GreetingCreatedEvent> jsonEventDeserializer;
+  private GreetingEventKafkaSerializer binaryEventSerializer;
+  private GreetingEventKafkaDeserializer binaryEventDeserializer;
+  private Jackson2JsonRedisSerializer<Greeting> jsonRedisSerializer;
+  private GreetingRedisSerializer binaryRedisSerializer;
+
+  private byte[] jsonEvent;
+  private byte[] binaryEvent;
+  private byte[] jsonGreeting;
+  private byte[] binaryGreeting;
+
+  @Setup
+  public void setUp() {
+    greeting = new Greeting(UUID.randomUUID(), "Hello, Benchmark!");
+    event =
+        new GreetingCreatedEvent(
+            UUID.randomUUID(), greeting.id(), greeting.message(), Instant.now());
+
+    jsonEventSerializer = new JsonSerializer<>();
+    jsonEventDeserializer = new JsonDeserializer<>(GreetingCreatedEvent.class);
+    jsonEventDeserializer.addTrustedPackages("com.example.template.domain.events");
+    binaryEventSerializer = new GreetingEventKafkaSerializer();
+    binaryEventDeserializer = new GreetingEventKafkaDeserializer();
+    jsonRedisSerializer = new Jackson2JsonRedisSerializer<>(Greeting.class);
+    binaryRedisSerializer = new GreetingRedisSerializer(WireFormat.BINARY);
+
+    jsonEvent = jsonEventSerializer.serialize(TOPIC, event);
+    binaryEvent = binaryEventSerializer.serialize(TOPIC, event);
+    jsonGreeting = jsonRedisSerializer.serialize(greeting);
+    binaryGreeting = binaryRedisSerializer.serialize(greeting);
+
+    System.out.printf(
+        "%nPayload bytes: event json=%d binary=%d, greeting json=%d binary=%d%n",
+        jsonEvent.length, binaryEvent.length, jsonGreeting.length, binaryGreeting.length);
+  }
+
+  @TearDown
+  public void tearDown() {
+    jsonEventSerializer.close();
+    jsonEventDeserializer.close();
+    binaryEventDeserializer.close();
+  }
+
+  @Benchmark
+  public byte[] kafkaSerializeJson() {
+    return jsonEventSerializer.serialize(TOPIC, event);
+  }
+
+  @Benchmark
+  public byte[] kafkaSerializeBinary() {
+    return binaryEventSerializer.serialize(TOPIC, event);
+  }
+
+  @Benchmark
+  public GreetingCreatedEvent kafkaDeserializeJson() {
+    return jsonEventDeserializer.deserialize(TOPIC, jsonEvent);
+  }
+
+  @Benchmark
+  public GreetingCreatedEvent kafkaDeserializeBinary() {
+    return binaryEventDeserializer.deserialize(TOPIC, binaryEvent);
+  }
+
+  @Benchmark
+  public byte[] redisSerializeJson() {
+    return jsonRedisSerializer.serialize(greeting);
+  }
+
+  @Benchmark
+  public byte[] redisSerializeBinary() {
+    return binaryRedisSerializer.serialize(greeting);
+  }
+
+  @Benchmark
+  public Greeting redisDeserializeJson() {
+    return jsonRedisSerializer.deserialize(jsonGreeting);
+  }
+
+  @Benchmark
+  public Greeting redisDeserializeBinary() {
+    return binaryRedisSerializer.deserialize(binaryGreeting);
+  }
+}
@@ -0,0 +1,179 @@
+package com.example.template.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+
+/**
+ * Measures time to first request of the {@code runtime} boot jar: from spawning the JVM until
+ * {@code GET /api/v1/greetings?limit=1} first answers 200. Each mode starts a fresh process {@code
+ * runs} times and reports the median and the fastest run.
+ *
+ * <ul>
+ *   <li>{@code baseline}: default configuration
+ *   <li>{@code fast-startup}: the {@code fast-startup} profile
+ *   <li>{@code cds}: the profile plus a class-data archive recorded by a training run
+ *   <li>{@code aot-cds}: the above plus Spring AOT; needs a jar built with {@code -Paot}
+ * </ul>
+ *
+ * <p>The jar is extracted first, as CDS cannot archive classes loaded from nested jars. The
+ * application needs PostgreSQL, Redis and Kafka; the local stand-ins from {@code compose.yaml} do.
+ *
+ * <p>{@code ./gradlew :benchmarks:startupBenchmark [-Paot] [-PstartupRuns=5]}
+ */
+public final class StartupBenchmark {
+  private static final Duration TIMEOUT = Duration.ofMinutes(2);
+  private static final String AOT_INITIALIZER =
+      "BOOT-INF/classes/com/example/template/runtime/"
+          + "Application__ApplicationContextInitializer.class";
+
+  private StartupBenchmark() {}
+
+  public static void main(String[] args) throws Exception {
+    var bootJar = Path.of(args[0]);
+    int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+    var workDir = Files.createTempDirectory("startup-benchmark");
+    var app = extract(bootJar, workDir);
+    var archive = workDir.resolve("app.jsa");
+    boolean aot = hasAotCode(bootJar);
+
+    System.out.printf("%-14s %10s %10s%n", "mode", "median ms", "min ms");
+    report("baseline", runs, app, List.of(), List.of());
+    var profile = List.of("--spring.profiles.active=fast-startup");
+    report("fast-startup", runs, app, List.of(), profile);
+
+    train(app, archive);
+    var cds = List.of("-XX:SharedArchiveFile=" + archive);
+    report("cds", runs, app, cds, profile);
+    if (aot) {
+      var aotCds = new ArrayList<>(cds);
+      aotCds.add("-Dspring.aot.enabled=true");
+      report("aot-cds", runs, app, aotCds, profile);
+    } else {
+      System.out.println("aot-cds        skipped: build the jar with -Paot");
+    }
+  }
+
+  private static void report(
+      String mode, int runs, Path app, List<String> jvmArgs, List<String> appArgs)
+      throws Exception {
+    var times = new ArrayList<Long>();
+    for (int i = 0; i < runs; i++) {
+      times.add(timeToFirstRequest(app, jvmArgs, appArgs).toMillis());
+    }
+    times.sort(null);
+    System.out.printf("%-14s %10d %10d%n", mode, times.get(times.size() / 2), times.get(0));
+  }
+
+  private static Duration timeToFirstRequest(Path app, List<String> jvmArgs, List<String> appArgs)
+      throws Exception {
+    int httpPort = freePort();
+    var command = new ArrayList<String>();
+    command.add(javaExecutable());
+    command.addAll(jvmArgs);
+    command.addAll(List.of("-jar", app.toString(), "--server.port=" + httpPort));
+    command.add("--grpc.server.port=" + freePort());
+    command.addAll(appArgs);
+
+    var uri = URI.create("http://localhost:" + httpPort + "/api/v1/greetings?limit=1");
+    var client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    var request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).build();
+
+    long start = System.nanoTime();
+    var process =
+        new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+    try {
+      while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+        if (!process.isAlive()) {
+          throw new IllegalStateException("Application exited with " + process.exitValue());
+        }
+        try {
+          if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+            return Duration.ofNanos(System.nanoTime() - start);
+          }
+        } catch (IOException e) {
+          // Not listening yet.
+        }
+        Thread.sleep(10);
+      }
+      throw new IllegalStateException("No response within " + TIMEOUT);
+    } finally {
+      process.destroy();
+      if (!process.waitFor(30, TimeUnit.SECONDS)) {
+        process.destroyForcibly().waitFor();
+      }
+    }
+  }
+
+  /** Records the classes loaded up to a refreshed context, as the Dockerfile build stage does. */
+  private static void train(Path app, Path archive) throws Exception {
+    int exit =
+        new ProcessBuilder(
+                javaExecutable(),
+                "-XX:ArchiveClassesAtExit=" + archive,
+                "-Dspring.context.exit=onRefresh",
+                "-jar",
+                app.toString(),
+                "--spring.profiles.active=fast-startup,skip-schema-validation",
+                "--spring.flyway.enabled=false")
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start()
+            .waitFor();
+    if (exit != 0 || !Files.exists(archive)) {
+      throw new IllegalStateException("CDS training run failed with exit code " + exit);
+    }
+  }
+
+  private static Path extract(Path bootJar, Path workDir) throws Exception {
+    var destination = workDir.resolve("app");
+    int exit =
+        new ProcessBuilder(
+                javaExecutable(),
+                "-Djarmode=tools",
+                "-jar",
+                bootJar.toString(),
+                "extract",
+                "--destination",
+                destination.toString())
+            .inheritIO()
+            .start()
+            .waitFor();
+    if (exit != 0) {
+      throw new IllegalStateException("Extracting " + bootJar + " failed with exit code " + exit);
+    }
+    return destination.resolve(bootJar.getFileName());
+  }
+
+  private static boolean hasAotCode(Path bootJar) throws IOException {
+    try (var jar = new JarFile(bootJar.toFile())) {
+      return jar.getEntry(AOT_INITIALIZER) != null;
+    }
+  }
+
+  private static int freePort() {
+    try (var socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String javaExecutable() {
+    return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+  }
+}
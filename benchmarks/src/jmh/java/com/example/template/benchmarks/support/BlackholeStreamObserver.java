@@ -0,0 +1,26 @@
+package com.example.template.benchmarks.support;
+
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** {@link StreamObserver} that hands every response to a JMH {@link Blackhole}. */
+public class BlackholeStreamObserver<T> implements StreamObserver<T> {
+  private final Blackhole blackhole;
+
+  public BlackholeStreamObserver(Blackhole blackhole) {
+    this.blackhole = blackhole;
+  }
+
+  @Override
+  public void onNext(T value) {
+    blackhole.consume(value);
+  }
+
+  @Override
+  public void onError(Throwable t) {
+    blackhole.consume(t);
+  }
+
+  @Override
+  public void onCompleted() {}
+}
@@ -0,0 +1,19 @@
+package com.example.template.benchmarks.support;
+
+import com.example.template.domain.events.GreetingCreatedEvent;
+import com.example.template.domain.ports.out.GreetingEventPublisher;
+import java.util.concurrent.atomic.LongAdder;
+
+/** {@link GreetingEventPublisher} that only counts events. */
+public class DiscardingGreetingEventPublisher implements GreetingEventPublisher {
+  private final LongAdder published = new LongAdder();
+
+  @Override
+  public void publish(GreetingCreatedEvent event) {
+    published.increment();
+  }
+
+  public long publishedCount() {
+    return published.sum();
+  }
+}
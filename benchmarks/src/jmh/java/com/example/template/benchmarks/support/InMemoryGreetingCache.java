@@ -0,0 +1,50 @@
+package com.example.template.benchmarks.support;
+
+import com.example.template.domain.Greeting;
+import com.example.template.domain.ports.out.GreetingCache;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link GreetingCache} backed by a concurrent map. A cache created with {@link #alwaysMissing()}
+ * drops every put, so every lookup goes through the store load path.
+ */
+public class InMemoryGreetingCache implements GreetingCache {
+  private final ConcurrentHashMap<UUID, Greeting> greetings = new ConcurrentHashMap<>();
+  private final boolean retain;
+
+  public InMemoryGreetingCache() {
+    this(true);
+  }
+
+  private InMemoryGreetingCache(boolean retain) {
+    this.retain = retain;
+  }
+
+  public static InMemoryGreetingCache alwaysMissing() {
+    return new InMemoryGreetingCache(false);
+  }
+
+  @Override
+  public Optional<Greeting> get(UUID id) {
+    return Optional.ofNullable(greetings.get(id));
+  }
+
+  @Override
+  public void put(Greeting greeting) {
+    if (retain) {
+      greetings.put(greeting.id(), greeting);
+    }
+  }
+
+  @Override
+  public void evict(UUID id) {
+    greetings.remove(id);
+  }
+
+  @Override
+  public void evictAll() {
+    greetings.clear();
+  }
+}
@@ -0,0 +1,36 @@
+package com.example.template.benchmarks.support;
+
+import com.example.template.domain.Greeting;
+import com.example.template.domain.ports.out.GreetingStore;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/** {@link GreetingStore} backed by a concurrent map, so benchmarks run without a database. */
+public class InMemoryGreetingStore implements GreetingStore {
+  private final ConcurrentSkipListMap<UUID, Greeting> greetings = new ConcurrentSkipListMap<>();
+
+  @Override
+  public void save(Greeting greeting) {
+    greetings.put(greeting.id(), greeting);
+  }
+
+  @Override
+  public Optional<Greeting> findById(UUID id) {
+    return Optional.ofNullable(greetings.get(id));
+  }
+
+  @Override
+  public List<Greeting> findAllById(Collection<UUID> ids) {
+    return ids.stream().map(greetings::get).filter(Objects::nonNull).toList();
+  }
+
+  @Override
+  public List<Greeting> findAfter(UUID afterId, int limit) {
+    var tail = afterId == null ? greetings : greetings.tailMap(afterId, false);
+    return tail.values().stream().limit(limit).toList();
+  }
+}
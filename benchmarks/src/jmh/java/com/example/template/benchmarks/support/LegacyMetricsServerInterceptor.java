@@ -0,0 +1,57 @@
+package com.example.template.benchmarks.support;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The server metrics interceptor as it was before meters were precomputed: it builds and registers
+ * its timer on every call. Kept as the baseline for {@code GrpcServerMetricsBenchmark}.
+ */
+public class LegacyMetricsServerInterceptor implements ServerInterceptor {
+  private static final Logger logger =
+      LoggerFactory.getLogger(LegacyMetricsServerInterceptor.class);
+
+  private final MeterRegistry meterRegistry;
+
+  public LegacyMetricsServerInterceptor(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+      ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+
+    String methodName = call.getMethodDescriptor().getFullMethodName();
+    Timer.Sample sample = Timer.start(meterRegistry);
+
+    logger.debug("gRPC server call started method={}", methodName);
+
+    ServerCall<ReqT, RespT> wrappedCall =
+        new ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT>(call) {
+          @Override
+          public void close(Status status, Metadata trailers) {
+            sample.stop(
+                Timer.builder("grpc.server.requests")
+                    .description("gRPC server request duration")
+                    .tag("method", methodName)
+                    .tag("status", status.getCode().name())
+                    .register(meterRegistry));
+            logger.debug(
+                "gRPC server call completed method={} status={}", methodName, status.getCode());
+            super.close(status, trailers);
+          }
+        };
+
+    return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(
+        next.startCall(wrappedCall, headers)) {};
+  }
+}
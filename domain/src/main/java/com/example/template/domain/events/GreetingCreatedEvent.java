@@ -7,6 +7,10 @@ public record GreetingCreatedEvent(
     UUID eventId, UUID greetingId, String message, Instant createdAt) {
 
   public static GreetingCreatedEvent from(UUID greetingId, String message) {
-    return new GreetingCreatedEvent(UUID.randomUUID(), greetingId, message, Instant.now());
+    return from(UUID.randomUUID(), greetingId, message);
+  }
+
+  public static GreetingCreatedEvent from(UUID eventId, UUID greetingId, String message) {
+    return new GreetingCreatedEvent(eventId, greetingId, message, Instant.now());
   }
 }
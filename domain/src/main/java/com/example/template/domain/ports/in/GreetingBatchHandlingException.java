@@ -0,0 +1,14 @@
+package com.example.template.domain.ports.in;
+
+public class GreetingBatchHandlingException extends RuntimeException {
+  private final int failedIndex;
+
+  public GreetingBatchHandlingException(int failedIndex, Throwable cause) {
+    super("Failed to handle event at index " + failedIndex, cause);
+    this.failedIndex = failedIndex;
+  }
+
+  public int failedIndex() {
+    return failedIndex;
+  }
+}
@@ -1,7 +1,22 @@
 package com.example.template.domain.ports.in;
 
 import com.example.template.domain.events.GreetingCreatedEvent;
+import java.util.List;
 
 public interface GreetingEventHandler {
   void handle(GreetingCreatedEvent event);
+
+  /**
+   * Handles events in order and stops at the first failure. The thrown {@link
+   * GreetingBatchHandlingException} reports the failed position; every event before it was handled.
+   */
+  default void handleBatch(List<GreetingCreatedEvent> events) {
+    for (int i = 0; i < events.size(); i++) {
+      try {
+        handle(events.get(i));
+      } catch (RuntimeException e) {
+        throw new GreetingBatchHandlingException(i, e);
+      }
+    }
+  }
 }
@@ -0,0 +1,13 @@
+package com.example.template.domain.ports.out;
+
+import com.example.template.domain.Greeting;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/** Non-blocking variant of {@link ExternalGreetingClient}. */
+public interface AsyncExternalGreetingClient {
+  CompletableFuture<Optional<Greeting>> fetchGreeting(UUID id);
+
+  CompletableFuture<Greeting> createRemoteGreeting(String name);
+}
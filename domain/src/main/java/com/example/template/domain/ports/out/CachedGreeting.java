@@ -0,0 +1,20 @@
+package com.example.template.domain.ports.out;
+
+import com.example.template.domain.Greeting;
+import java.time.Instant;
+
+/** A cache entry; a {@code null} greeting is a tombstone for an id known not to exist. */
+public record CachedGreeting(Greeting greeting, Instant expiresAt) {
+
+  public static CachedGreeting withoutExpiry(Greeting greeting) {
+    return new CachedGreeting(greeting, Instant.MAX);
+  }
+
+  public static CachedGreeting missing(Instant expiresAt) {
+    return new CachedGreeting(null, expiresAt);
+  }
+
+  public boolean isMissing() {
+    return greeting == null;
+  }
+}
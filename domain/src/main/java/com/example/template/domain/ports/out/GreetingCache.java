@@ -1,14 +1,44 @@
 package com.example.template.domain.ports.out;
 
 import com.example.template.domain.Greeting;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface GreetingCache {
   Optional<Greeting> get(UUID id);
 
+  /**
+   * Like {@link #get(UUID)}, but also reports when the cached value expires, and returns a {@link
+   * CachedGreeting#isMissing() tombstone} for ids recorded with {@link #putMissing(UUID)}.
+   */
+  default Optional<CachedGreeting> getEntry(UUID id) {
+    return get(id).map(CachedGreeting::withoutExpiry);
+  }
+
+  /** Returns the cached greetings for {@code ids}; ids that are not cached are absent. */
+  default Map<UUID, Greeting> getAll(Collection<UUID> ids) {
+    var found = new HashMap<UUID, Greeting>();
+    for (var id : ids) {
+      get(id).ifPresent(greeting -> found.put(id, greeting));
+    }
+    return found;
+  }
+
   void put(Greeting greeting);
 
+  default void putAll(Collection<Greeting> greetings) {
+    greetings.forEach(this::put);
+  }
+
+  /**
+   * Records that no greeting exists for {@code id}, for a short time. The tombstone never replaces
+   * a cached greeting, and a later {@link #put(Greeting)} replaces the tombstone.
+   */
+  default void putMissing(UUID id) {}
+
   void evict(UUID id);
 
   void evictAll();
@@ -1,7 +1,12 @@
 package com.example.template.domain.ports.out;
 
 import com.example.template.domain.events.GreetingCreatedEvent;
+import java.util.List;
 
 public interface GreetingEventPublisher {
   void publish(GreetingCreatedEvent event);
+
+  default void publishAll(List<GreetingCreatedEvent> events) {
+    events.forEach(this::publish);
+  }
 }
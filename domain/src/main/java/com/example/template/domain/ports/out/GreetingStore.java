@@ -1,11 +1,75 @@
 package com.example.template.domain.ports.out;
 
 import com.example.template.domain.Greeting;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface GreetingStore {
   void save(Greeting greeting);
 
+  /**
+   * Saves without waiting for the write to commit, where the store supports it. The future
+   * completes once the greeting is durable. By default this is a synchronous {@link #save}.
+   */
+  default CompletableFuture<Void> saveAsync(Greeting greeting) {
+    save(greeting);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  default void saveAll(Collection<Greeting> greetings) {
+    greetings.forEach(this::save);
+  }
+
+  /**
+   * Saves the greeting and runs {@code inSameTransaction}, such as recording its event, so that
+   * both commit or neither does. By default both run in the caller's transaction. A store that
+   * commits on its own thread runs them in its own transaction, and must be called outside one.
+   */
+  default void save(Greeting greeting, Runnable inSameTransaction) {
+    save(greeting);
+    inSameTransaction.run();
+  }
+
+  /** {@link #save(Greeting, Runnable)} for several greetings. */
+  default void saveAll(Collection<Greeting> greetings, Runnable inSameTransaction) {
+    saveAll(greetings);
+    inSameTransaction.run();
+  }
+
   Optional<Greeting> findById(UUID id);
+
+  /**
+   * Looks up a greeting that {@link #findById} just missed in the primary copy, for stores that may
+   * read from a lagging replica. The greeting may already exist there. By default the miss stands.
+   */
+  default Optional<Greeting> recheckMiss(UUID id) {
+    return Optional.empty();
+  }
+
+  List<Greeting> findAllById(Collection<UUID> ids);
+
+  /**
+   * Returns up to {@code limit} greetings ordered by id, starting after {@code afterId} (exclusive)
+   * or from the first greeting when {@code afterId} is null.
+   */
+  List<Greeting> findAfter(UUID afterId, int limit);
+
+  /**
+   * Passes every greeting to {@code action} in id order without holding them all in memory. By
+   * default this walks the store page by page with {@link #findAfter}.
+   */
+  default void forEach(Consumer<? super Greeting> action) {
+    int pageSize = 1000;
+    UUID afterId = null;
+    List<Greeting> page;
+    do {
+      page = findAfter(afterId, pageSize);
+      page.forEach(action);
+      afterId = page.isEmpty() ? null : page.getLast().id();
+    } while (page.size() == pageSize);
+  }
 }
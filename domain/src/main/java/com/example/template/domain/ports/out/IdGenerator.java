@@ -0,0 +1,13 @@
+package com.example.template.domain.ports.out;
+
+import java.util.UUID;
+
+/** Source of identifiers for new greetings and events. */
+@FunctionalInterface
+public interface IdGenerator {
+  UUID nextId();
+
+  static IdGenerator random() {
+    return UUID::randomUUID;
+  }
+}
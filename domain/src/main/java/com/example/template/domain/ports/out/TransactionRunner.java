@@ -0,0 +1,11 @@
+package com.example.template.domain.ports.out;
+
+/** Runs a unit of work atomically against the outbound ports that support transactions. */
+@FunctionalInterface
+public interface TransactionRunner {
+  void inTransaction(Runnable work);
+
+  static TransactionRunner none() {
+    return Runnable::run;
+  }
+}
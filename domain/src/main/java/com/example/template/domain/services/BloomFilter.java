@@ -0,0 +1,75 @@
+package com.example.template.domain.services;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Lock-free Bloom filter of UUIDs, sized for an expected number of ids and false-positive rate. */
+final class BloomFilter {
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+  private final LongAdder additions = new LongAdder();
+
+  BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException(
+          "falsePositiveRate must be in (0, 1): " + falsePositiveRate);
+    }
+    long n = Math.max(expectedInsertions, 1);
+    long optimalBits =
+        (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    int words = Math.toIntExact((optimalBits + 63) / 64);
+    this.bits = new AtomicLongArray(words);
+    this.bitCount = (long) words * 64;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+  }
+
+  void add(UUID id) {
+    long h1 = firstHash(id);
+    long h2 = secondHash(id, h1);
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bitCount);
+      long mask = 1L << bit;
+      bits.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+    }
+    additions.increment();
+  }
+
+  boolean mightContain(UUID id) {
+    long h1 = firstHash(id);
+    long h2 = secondHash(id, h1);
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bitCount);
+      if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Expected false-positive rate for the number of ids added so far. */
+  double expectedFalsePositiveRate() {
+    double filled = 1 - Math.exp(-(double) hashCount * additions.sum() / bitCount);
+    return Math.pow(filled, hashCount);
+  }
+
+  long sizeInBytes() {
+    return bitCount / 8;
+  }
+
+  // Double hashing: bit i is h1 + i * h2. The second hash is odd so the probes never collapse.
+  private static long firstHash(UUID id) {
+    return mix(id.getMostSignificantBits() ^ Long.rotateLeft(id.getLeastSignificantBits(), 32));
+  }
+
+  private static long secondHash(UUID id, long firstHash) {
+    return mix(firstHash ^ id.getLeastSignificantBits()) | 1;
+  }
+
+  private static long mix(long hash) {
+    hash = (hash ^ (hash >>> 33)) * 0xFF51_AFD7_ED55_8CCDL;
+    hash = (hash ^ (hash >>> 33)) * 0xC4CE_B9FE_1A85_EC53L;
+    return hash ^ (hash >>> 33);
+  }
+}
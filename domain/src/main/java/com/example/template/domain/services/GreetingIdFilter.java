@@ -0,0 +1,109 @@
+package com.example.template.domain.services;
+
+import com.example.template.domain.ports.out.GreetingStore;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory Bloom filter of existing greeting ids, so lookups for ids that were never created can
+ * be answered without touching the cache or the database.
+ *
+ * <p>The filter only knows ids that existed when it was rebuilt plus the ones created on this
+ * instance. It therefore only answers "definitely missing" for ids it is authoritative for: UUIDv7
+ * ids minted more than {@code grace} before the rebuild started. Newer ids, which may have been
+ * created by another instance, fall through to the normal lookup.
+ *
+ * <p>Ids without an embedded timestamp (anything but UUIDv7) carry no hint of when they were
+ * created, so they also fall through, unless a {@code randomIdsCutover} is given: the time after
+ * which no instance mints such ids any more. Once the rebuild started more than {@code grace} after
+ * it, every such id is in the filter and the filter answers for them too.
+ */
+public class GreetingIdFilter {
+  private static final long NOT_READY = Long.MIN_VALUE;
+
+  private final BloomFilter bloom;
+  private final Clock clock;
+  private final Duration grace;
+  private final long randomIdsCutover;
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder falsePositives = new LongAdder();
+  private volatile long authoritativeBefore = NOT_READY;
+
+  public GreetingIdFilter(
+      long expectedInsertions, double falsePositiveRate, Duration grace, Clock clock) {
+    this(expectedInsertions, falsePositiveRate, grace, null, clock);
+  }
+
+  /** {@code randomIdsCutover} may be {@code null}: ids other than UUIDv7 are never rejected. */
+  public GreetingIdFilter(
+      long expectedInsertions,
+      double falsePositiveRate,
+      Duration grace,
+      Instant randomIdsCutover,
+      Clock clock) {
+    this.bloom = new BloomFilter(expectedInsertions, falsePositiveRate);
+    this.grace = grace;
+    this.randomIdsCutover =
+        randomIdsCutover != null ? randomIdsCutover.toEpochMilli() : Long.MAX_VALUE;
+    this.clock = clock;
+  }
+
+  /** A filter that is never rebuilt, so it never rejects a lookup. */
+  public static GreetingIdFilter disabled() {
+    return new GreetingIdFilter(1, 0.5, Duration.ZERO, Clock.systemUTC());
+  }
+
+  /** Adds every stored id. Until this completes, no lookup is rejected. */
+  public void rebuild(GreetingStore store) {
+    long start = clock.millis();
+    store.forEach(greeting -> bloom.add(greeting.id()));
+    authoritativeBefore = start - grace.toMillis();
+  }
+
+  public void add(UUID id) {
+    bloom.add(id);
+  }
+
+  public boolean isDefinitelyMissing(UUID id) {
+    long before = authoritativeBefore;
+    if (before == NOT_READY || bloom.mightContain(id)) {
+      return false;
+    }
+    long mintedAt = id.version() == 7 ? UuidV7Generator.timestampOf(id) : randomIdsCutover;
+    if (mintedAt >= before) {
+      return false;
+    }
+    rejected.increment();
+    return true;
+  }
+
+  /** Records that the store had no greeting for an id this filter let through. */
+  public void recordNotFound(UUID id) {
+    if (authoritativeBefore != NOT_READY && bloom.mightContain(id)) {
+      falsePositives.increment();
+    }
+  }
+
+  public boolean isReady() {
+    return authoritativeBefore != NOT_READY;
+  }
+
+  public long rejectedCount() {
+    return rejected.sum();
+  }
+
+  public long falsePositiveCount() {
+    return falsePositives.sum();
+  }
+
+  public double expectedFalsePositiveRate() {
+    return bloom.expectedFalsePositiveRate();
+  }
+
+  public long sizeInBytes() {
+    return bloom.sizeInBytes();
+  }
+}
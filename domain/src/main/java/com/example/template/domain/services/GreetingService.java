@@ -1,11 +1,26 @@
 package com.example.template.domain.services;
 
 import com.example.template.domain.Greeting;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface GreetingService {
   Greeting createGreeting(String name);
 
+  /** Creates one greeting per name in a single transaction. */
+  List<Greeting> createGreetings(List<String> names);
+
   Optional<Greeting> getGreeting(UUID id);
+
+  /** Returns the greetings that exist for {@code ids}, in request order and without duplicates. */
+  List<Greeting> getGreetings(Collection<UUID> ids);
+
+  /** Pages through all greetings in id order; see {@code GreetingStore#findAfter}. */
+  List<Greeting> getGreetingsAfter(UUID afterId, int limit);
+
+  /** Streams all greetings in id order; see {@code GreetingStore#forEach}. */
+  void forEachGreeting(Consumer<? super Greeting> action);
 }
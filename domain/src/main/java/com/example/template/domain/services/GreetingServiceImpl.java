@@ -5,44 +5,211 @@ import com.example.template.domain.events.GreetingCreatedEvent;
 import com.example.template.domain.ports.out.GreetingCache;
 import com.example.template.domain.ports.out.GreetingEventPublisher;
 import com.example.template.domain.ports.out.GreetingStore;
+import com.example.template.domain.ports.out.IdGenerator;
+import com.example.template.domain.ports.out.TransactionRunner;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class GreetingServiceImpl implements GreetingService {
+  private static final Logger logger = LoggerFactory.getLogger(GreetingServiceImpl.class);
+  // Early refreshes wait on the store; a virtual thread each keeps them off the caller's thread.
+  private static final Executor VIRTUAL_THREADS =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("greeting-refresh-", 0).factory());
+
   private final GreetingStore greetingStore;
   private final GreetingCache greetingCache;
   private final GreetingEventPublisher eventPublisher;
+  private final TransactionRunner transactions;
+  private final ProbabilisticEarlyRefresh earlyRefresh;
+  private final IdGenerator ids;
+  private final GreetingIdFilter idFilter;
+  private final Executor refreshExecutor;
+  private final SingleFlight<UUID, Optional<Greeting>> loads = new SingleFlight<>();
 
   public GreetingServiceImpl(
       GreetingStore greetingStore,
       GreetingCache greetingCache,
       GreetingEventPublisher eventPublisher) {
+    this(
+        greetingStore,
+        greetingCache,
+        eventPublisher,
+        TransactionRunner.none(),
+        ProbabilisticEarlyRefresh.disabled(),
+        new UuidV7Generator(Clock.systemUTC()));
+  }
+
+  public GreetingServiceImpl(
+      GreetingStore greetingStore,
+      GreetingCache greetingCache,
+      GreetingEventPublisher eventPublisher,
+      TransactionRunner transactions,
+      ProbabilisticEarlyRefresh earlyRefresh,
+      IdGenerator ids) {
+    this(
+        greetingStore,
+        greetingCache,
+        eventPublisher,
+        transactions,
+        earlyRefresh,
+        ids,
+        GreetingIdFilter.disabled());
+  }
+
+  public GreetingServiceImpl(
+      GreetingStore greetingStore,
+      GreetingCache greetingCache,
+      GreetingEventPublisher eventPublisher,
+      TransactionRunner transactions,
+      ProbabilisticEarlyRefresh earlyRefresh,
+      IdGenerator ids,
+      GreetingIdFilter idFilter) {
+    this(
+        greetingStore,
+        greetingCache,
+        eventPublisher,
+        transactions,
+        earlyRefresh,
+        ids,
+        idFilter,
+        VIRTUAL_THREADS);
+  }
+
+  /** {@code refreshExecutor} runs early refreshes, so the caller returns the cached greeting. */
+  public GreetingServiceImpl(
+      GreetingStore greetingStore,
+      GreetingCache greetingCache,
+      GreetingEventPublisher eventPublisher,
+      TransactionRunner transactions,
+      ProbabilisticEarlyRefresh earlyRefresh,
+      IdGenerator ids,
+      GreetingIdFilter idFilter,
+      Executor refreshExecutor) {
     this.greetingStore = greetingStore;
     this.greetingCache = greetingCache;
     this.eventPublisher = eventPublisher;
+    this.transactions = transactions;
+    this.earlyRefresh = earlyRefresh;
+    this.ids = ids;
+    this.idFilter = idFilter;
+    this.refreshExecutor = refreshExecutor;
   }
 
   @Override
   public Greeting createGreeting(String name) {
-    var greeting = new Greeting(UUID.randomUUID(), "Hello, " + name + "!");
-    this.greetingStore.save(greeting);
-    this.greetingCache.put(greeting);
+    var greeting = greetingFor(name);
+    var event = eventFor(greeting);
 
-    var event = GreetingCreatedEvent.from(greeting.id(), greeting.message());
-    this.eventPublisher.publish(event);
+    this.transactions.inTransaction(
+        () -> this.greetingStore.save(greeting, () -> this.eventPublisher.publish(event)));
+    this.idFilter.add(greeting.id());
+    this.greetingCache.put(greeting);
 
     return greeting;
   }
 
+  @Override
+  public List<Greeting> createGreetings(List<String> names) {
+    var greetings = names.stream().map(this::greetingFor).toList();
+    var events = greetings.stream().map(this::eventFor).toList();
+
+    this.transactions.inTransaction(
+        () -> this.greetingStore.saveAll(greetings, () -> this.eventPublisher.publishAll(events)));
+    greetings.forEach(greeting -> this.idFilter.add(greeting.id()));
+    // Bulk imports are not cached, so they do not push hot entries out of the cache.
+
+    return greetings;
+  }
+
   @Override
   public Optional<Greeting> getGreeting(UUID id) {
-    return greetingCache
-        .get(id)
-        .or(
-            () -> {
-              var fromStore = greetingStore.findById(id);
-              fromStore.ifPresent(greetingCache::put);
-              return fromStore;
-            });
+    if (idFilter.isDefinitelyMissing(id)) {
+      return Optional.empty();
+    }
+    var cached = greetingCache.getEntry(id);
+    if (cached.isEmpty()) {
+      return loads.load(id, () -> loadFromStore(id));
+    }
+
+    var entry = cached.get();
+    if (entry.isMissing()) {
+      return Optional.empty();
+    }
+    if (earlyRefresh.shouldRefresh(entry.expiresAt())) {
+      loads
+          .refresh(id, () -> loadFromStore(id), refreshExecutor)
+          .exceptionally(
+              e -> {
+                logger.warn("Early refresh failed for greeting id={}: {}", id, e.getMessage());
+                return null;
+              });
+    }
+    return Optional.of(entry.greeting());
+  }
+
+  @Override
+  public List<Greeting> getGreetings(Collection<UUID> ids) {
+    var uniqueIds = new LinkedHashSet<>(ids);
+    uniqueIds.removeIf(idFilter::isDefinitelyMissing);
+    var found = new HashMap<>(greetingCache.getAll(uniqueIds));
+
+    var misses = uniqueIds.stream().filter(id -> !found.containsKey(id)).toList();
+    if (!misses.isEmpty()) {
+      var fromStore = greetingStore.findAllById(misses);
+      greetingCache.putAll(fromStore);
+      fromStore.forEach(greeting -> found.put(greeting.id(), greeting));
+    }
+
+    return uniqueIds.stream().map(found::get).filter(Objects::nonNull).toList();
+  }
+
+  @Override
+  public List<Greeting> getGreetingsAfter(UUID afterId, int limit) {
+    return greetingStore.findAfter(afterId, limit);
+  }
+
+  @Override
+  public void forEachGreeting(Consumer<? super Greeting> action) {
+    greetingStore.forEach(action);
+  }
+
+  public long coalescedLoadCount() {
+    return loads.coalescedCount();
+  }
+
+  private Greeting greetingFor(String name) {
+    return new Greeting(ids.nextId(), "Hello, " + name + "!");
+  }
+
+  private GreetingCreatedEvent eventFor(Greeting greeting) {
+    return GreetingCreatedEvent.from(ids.nextId(), greeting.id(), greeting.message());
+  }
+
+  private Optional<Greeting> loadFromStore(UUID id) {
+    long start = System.nanoTime();
+    var fromStore = greetingStore.findById(id);
+    earlyRefresh.recordLoadTime(System.nanoTime() - start);
+    if (fromStore.isEmpty()) {
+      // Only a miss on the primary is cached; a replica may not have caught up with a create.
+      fromStore = greetingStore.recheckMiss(id);
+    }
+    if (fromStore.isPresent()) {
+      greetingCache.put(fromStore.get());
+    } else {
+      idFilter.recordNotFound(id);
+      greetingCache.putMissing(id);
+    }
+    return fromStore;
   }
 }
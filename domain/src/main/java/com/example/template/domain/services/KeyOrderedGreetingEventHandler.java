@@ -0,0 +1,187 @@
+package com.example.template.domain.services;
+
+import com.example.template.domain.events.GreetingCreatedEvent;
+import com.example.template.domain.ports.in.GreetingBatchHandlingException;
+import com.example.template.domain.ports.in.GreetingEventHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Handles a batch with events for different greetings in parallel, and events for the same greeting
+ * one after another in batch order. At most {@code parallelism} greetings are handled at a time
+ * across all batches, so several listener threads share one bound.
+ *
+ * <p>{@link #handleBatch} returns once every event is handled. After a failure the later events of
+ * that greeting are skipped, other greetings carry on, and the exception reports the lowest failed
+ * index. Every event before it was handled, so committing up to it never skips an event. Events
+ * after it may have been handled already and are redelivered.
+ *
+ * <p>If the calling thread is interrupted, workers skip the events they have not started, and the
+ * call waits up to {@code cancelTimeout} for the events already running before it throws. Handing
+ * the batch back while a worker still handles one of its events would let the redelivery run
+ * alongside it.
+ *
+ * <p>Owns the executor and shuts it down on {@link #close()}.
+ */
+public class KeyOrderedGreetingEventHandler implements GreetingEventHandler, AutoCloseable {
+  private static final Duration DEFAULT_CANCEL_TIMEOUT = Duration.ofSeconds(5);
+
+  private final GreetingEventHandler delegate;
+  private final ExecutorService executor;
+  private final Semaphore permits;
+  private final Duration cancelTimeout;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger activeKeys = new AtomicInteger();
+  private volatile int longestKeyQueue;
+
+  public KeyOrderedGreetingEventHandler(
+      GreetingEventHandler delegate, ExecutorService executor, int parallelism) {
+    this(delegate, executor, parallelism, DEFAULT_CANCEL_TIMEOUT);
+  }
+
+  public KeyOrderedGreetingEventHandler(
+      GreetingEventHandler delegate,
+      ExecutorService executor,
+      int parallelism,
+      Duration cancelTimeout) {
+    this.delegate = delegate;
+    this.executor = executor;
+    this.permits = new Semaphore(parallelism);
+    this.cancelTimeout = cancelTimeout;
+  }
+
+  @Override
+  public void handle(GreetingCreatedEvent event) {
+    delegate.handle(event);
+  }
+
+  @Override
+  public void handleBatch(List<GreetingCreatedEvent> events) {
+    var chains = new LinkedHashMap<UUID, List<Integer>>();
+    for (int i = 0; i < events.size(); i++) {
+      chains.computeIfAbsent(events.get(i).greetingId(), id -> new ArrayList<>()).add(i);
+    }
+    longestKeyQueue = chains.values().stream().mapToInt(List::size).max().orElse(0);
+
+    var handled = new AtomicIntegerArray(events.size());
+    var failures = new ConcurrentSkipListMap<Integer, Throwable>();
+    var done = new CountDownLatch(chains.size());
+    var cancelled = new AtomicBoolean();
+    int dispatched = 0;
+    try {
+      for (var chain : chains.values()) {
+        permits.acquire();
+        dispatched++;
+        inFlight.addAndGet(chain.size());
+        activeKeys.incrementAndGet();
+        try {
+          executor.execute(() -> runChain(events, chain, handled, failures, done, cancelled));
+        } catch (RejectedExecutionException e) {
+          failures.put(chain.get(0), e);
+          finishChain(chain.size(), done);
+        }
+      }
+      done.await();
+    } catch (InterruptedException e) {
+      cancelled.set(true);
+      for (int i = dispatched; i < chains.size(); i++) {
+        done.countDown();
+      }
+      awaitRunningChains(done);
+      Thread.currentThread().interrupt();
+      for (int i = 0; i < events.size(); i++) {
+        if (handled.get(i) == 0) {
+          throw new GreetingBatchHandlingException(i, e);
+        }
+      }
+      return;
+    }
+
+    if (!failures.isEmpty()) {
+      var first = failures.firstEntry();
+      throw new GreetingBatchHandlingException(first.getKey(), first.getValue());
+    }
+  }
+
+  /** Events dispatched to a worker and not yet handled or skipped. */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  /** Greetings with events in flight, each handled by at most one worker at a time. */
+  public int activeKeys() {
+    return activeKeys.get();
+  }
+
+  /** Events in flight that wait for an earlier event of the same greeting. */
+  public int queuedBehindKey() {
+    return Math.max(0, inFlight.get() - activeKeys.get());
+  }
+
+  /** Most events for a single greeting in the latest batch: the longest sequential chain. */
+  public int longestKeyQueue() {
+    return longestKeyQueue;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+
+  private void runChain(
+      List<GreetingCreatedEvent> events,
+      List<Integer> chain,
+      AtomicIntegerArray handled,
+      ConcurrentSkipListMap<Integer, Throwable> failures,
+      CountDownLatch done,
+      AtomicBoolean cancelled) {
+    int remaining = chain.size();
+    try {
+      for (int index : chain) {
+        if (cancelled.get()) {
+          break;
+        }
+        delegate.handle(events.get(index));
+        handled.set(index, 1);
+        inFlight.decrementAndGet();
+        remaining--;
+      }
+    } catch (RuntimeException | Error e) {
+      failures.put(chain.get(chain.size() - remaining), e);
+    } finally {
+      finishChain(remaining, done);
+    }
+  }
+
+  /** Waits up to the cancel timeout, also when interrupted again; the caller restores the flag. */
+  private void awaitRunningChains(CountDownLatch done) {
+    long deadline = System.nanoTime() + cancelTimeout.toNanos();
+    while (true) {
+      try {
+        done.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        return;
+      } catch (InterruptedException e) {
+        // Keep waiting for the workers.
+      }
+    }
+  }
+
+  private void finishChain(int skipped, CountDownLatch done) {
+    inFlight.addAndGet(-skipped);
+    activeKeys.decrementAndGet();
+    permits.release();
+    done.countDown();
+  }
+}
@@ -0,0 +1,52 @@
+package com.example.template.domain.services;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when a cached value should be reloaded before it expires ("XFetch"). A caller refreshes
+ * early when {@code now - delta * beta * ln(random) >= expiry}, where {@code delta} is the recent
+ * load time. Hot keys are therefore refreshed by a single caller shortly before they expire, while
+ * cold keys almost never are. A {@code beta} of zero disables early refresh.
+ */
+public class ProbabilisticEarlyRefresh {
+  private static final double LOAD_TIME_SMOOTHING = 0.2;
+
+  private final double beta;
+  private final Clock clock;
+  private final AtomicLong loadTimeNanos = new AtomicLong();
+
+  public ProbabilisticEarlyRefresh(double beta, Clock clock) {
+    if (beta < 0) {
+      throw new IllegalArgumentException("beta must not be negative: " + beta);
+    }
+    this.beta = beta;
+    this.clock = clock;
+  }
+
+  public static ProbabilisticEarlyRefresh disabled() {
+    return new ProbabilisticEarlyRefresh(0, Clock.systemUTC());
+  }
+
+  public boolean shouldRefresh(Instant expiresAt) {
+    if (beta == 0 || Instant.MAX.equals(expiresAt)) {
+      return false;
+    }
+    double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+    long headStartNanos = (long) (loadTimeNanos.get() * beta * -Math.log(random));
+    return !clock.instant().plusNanos(headStartNanos).isBefore(expiresAt);
+  }
+
+  public void recordLoadTime(long nanos) {
+    loadTimeNanos.getAndUpdate(previous -> smooth(previous, nanos));
+  }
+
+  private static long smooth(long previous, long sample) {
+    if (previous == 0) {
+      return sample;
+    }
+    return (long) (previous + LOAD_TIME_SMOOTHING * (sample - previous));
+  }
+}
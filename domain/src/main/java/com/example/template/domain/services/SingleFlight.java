@@ -0,0 +1,86 @@
+package com.example.template.domain.services;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one load per key at a time. Callers that arrive while a load is in flight wait for
+ * its result instead of starting their own.
+ */
+public class SingleFlight<K, V> {
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final LongAdder coalesced = new LongAdder();
+
+  public V load(K key, Supplier<V> loader) {
+    var future = new CompletableFuture<V>();
+    var existing = inFlight.putIfAbsent(key, future);
+    if (existing != null) {
+      coalesced.increment();
+      return await(existing);
+    }
+    return run(key, future, loader);
+  }
+
+  /**
+   * Starts a load on {@code executor} and returns without waiting for it. If a load for {@code key}
+   * is already in flight, returns that one instead. Callers of {@link #load} that arrive meanwhile
+   * wait for it as usual.
+   */
+  public CompletableFuture<V> refresh(K key, Supplier<V> loader, Executor executor) {
+    var future = new CompletableFuture<V>();
+    var existing = inFlight.putIfAbsent(key, future);
+    if (existing != null) {
+      return existing;
+    }
+    try {
+      executor.execute(
+          () -> {
+            try {
+              run(key, future, loader);
+            } catch (RuntimeException e) {
+              // Reported through the future.
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      inFlight.remove(key, future);
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  public long coalescedCount() {
+    return coalesced.sum();
+  }
+
+  private V run(K key, CompletableFuture<V> future, Supplier<V> loader) {
+    try {
+      V value = loader.get();
+      future.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  private V await(CompletableFuture<V> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.example.template.domain.services;
+
+import com.example.template.domain.ports.out.IdGenerator;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates time-ordered UUIDv7 identifiers (RFC 9562). Consecutive ids land next to each other in
+ * a B-tree index, unlike random v4 ids which touch a random leaf page on every insert.
+ *
+ * <p>The 48-bit millisecond timestamp and the 12-bit {@code rand_a} field are used together as a
+ * counter, so ids from one generator are strictly increasing even within a millisecond or when the
+ * clock steps backwards. The counter is advanced with a single CAS and the random tail comes from
+ * {@link ThreadLocalRandom}, so no lock is taken. If more than 4096 ids are requested within one
+ * millisecond the timestamp runs slightly ahead of the clock until the clock catches up.
+ */
+public class UuidV7Generator implements IdGenerator {
+  private static final int COUNTER_BITS = 12;
+  private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000_0000_0000_0000L;
+  private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+  private final Clock clock;
+  // Unix millis << COUNTER_BITS | counter
+  private final AtomicLong state = new AtomicLong();
+
+  public UuidV7Generator(Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public UUID nextId() {
+    long floor = clock.millis() << COUNTER_BITS;
+    long next = state.accumulateAndGet(floor, (previous, now) -> Math.max(now, previous + 1));
+
+    long millis = next >>> COUNTER_BITS;
+    long mostSignificant = millis << 16 | VERSION | (next & COUNTER_MASK);
+    long leastSignificant = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT;
+    return new UUID(mostSignificant, leastSignificant);
+  }
+
+  /** Returns the Unix epoch millisecond embedded in a UUIDv7. */
+  public static long timestampOf(UUID id) {
+    if (id.version() != 7) {
+      throw new IllegalArgumentException("Not a UUIDv7: " + id);
+    }
+    return id.getMostSignificantBits() >>> 16;
+  }
+}
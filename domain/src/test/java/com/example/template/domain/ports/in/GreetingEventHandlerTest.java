@@ -0,0 +1,35 @@
+package com.example.template.domain.ports.in;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.template.domain.events.GreetingCreatedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class GreetingEventHandlerTest {
+  @Test
+  void HandleBatchReportsFirstFailedIndex() {
+    var events =
+        List.of(
+            GreetingCreatedEvent.from(UUID.randomUUID(), "first"),
+            GreetingCreatedEvent.from(UUID.randomUUID(), "poison"),
+            GreetingCreatedEvent.from(UUID.randomUUID(), "third"));
+    var handled = new ArrayList<String>();
+    GreetingEventHandler handler =
+        event -> {
+          if (event.message().equals("poison")) {
+            throw new IllegalStateException("cannot handle");
+          }
+          handled.add(event.message());
+        };
+
+    var failure =
+        assertThrows(GreetingBatchHandlingException.class, () -> handler.handleBatch(events));
+
+    assertEquals(1, failure.failedIndex());
+    assertEquals(List.of("first"), handled);
+  }
+}
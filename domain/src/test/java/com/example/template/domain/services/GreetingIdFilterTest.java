@@ -0,0 +1,128 @@
+package com.example.template.domain.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.template.domain.Greeting;
+import com.example.template.domain.ports.out.GreetingStore;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class GreetingIdFilterTest {
+  private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+  private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+  @Test
+  void RejectsNothingUntilRebuilt() {
+    var filter = new GreetingIdFilter(1000, 0.01, Duration.ofMinutes(5), CLOCK);
+
+    assertFalse(filter.isDefinitelyMissing(UUID.randomUUID()));
+    assertFalse(filter.isReady());
+  }
+
+  @Test
+  void RejectsOnlyUnknownIdsThatPredateTheRebuild() {
+    var old = new UuidV7Generator(Clock.fixed(NOW.minus(Duration.ofHours(1)), ZoneOffset.UTC));
+    var recent = new UuidV7Generator(Clock.fixed(NOW.minusSeconds(10), ZoneOffset.UTC));
+    var stored = new ArrayList<Greeting>();
+    for (int i = 0; i < 100; i++) {
+      stored.add(new Greeting(old.nextId(), "Hello, " + i + "!"));
+    }
+    stored.add(new Greeting(UUID.randomUUID(), "Hello, legacy!"));
+    var filter = new GreetingIdFilter(1000, 0.01, Duration.ofMinutes(5), CLOCK);
+
+    filter.rebuild(storeOf(stored));
+    var createdHere = recent.nextId();
+    filter.add(createdHere);
+
+    assertTrue(filter.isReady());
+    stored.forEach(greeting -> assertFalse(filter.isDefinitelyMissing(greeting.id())));
+    assertFalse(filter.isDefinitelyMissing(createdHere));
+    // May have been created on another instance after the rebuild started.
+    assertFalse(filter.isDefinitelyMissing(recent.nextId()));
+    assertTrue(filter.isDefinitelyMissing(old.nextId()));
+    // No timestamp, so it may be a legacy id created elsewhere.
+    assertFalse(filter.isDefinitelyMissing(UUID.randomUUID()));
+    assertEquals(1, filter.rejectedCount());
+  }
+
+  @Test
+  void RejectsRandomIdsOnlyOnceTheCutoverIsPastTheGrace() {
+    var grace = Duration.ofMinutes(5);
+    var trusted = new GreetingIdFilter(1000, 0.01, grace, NOW.minus(grace).minusSeconds(1), CLOCK);
+    var tooRecent = new GreetingIdFilter(1000, 0.01, grace, NOW.minusSeconds(10), CLOCK);
+    var legacy = new Greeting(UUID.randomUUID(), "Hello, legacy!");
+
+    trusted.rebuild(storeOf(List.of(legacy)));
+    tooRecent.rebuild(storeOf(List.of(legacy)));
+
+    assertFalse(trusted.isDefinitelyMissing(legacy.id()));
+    assertTrue(trusted.isDefinitelyMissing(UUID.randomUUID()));
+    assertFalse(tooRecent.isDefinitelyMissing(UUID.randomUUID()));
+  }
+
+  @Test
+  void FalsePositiveRateStaysNearTarget() {
+    var filter = new GreetingIdFilter(100_000, 0.01, Duration.ZERO, NOW.minusSeconds(1), CLOCK);
+    var stored = new ArrayList<Greeting>();
+    for (int i = 0; i < 100_000; i++) {
+      stored.add(new Greeting(UUID.randomUUID(), "Hello!"));
+    }
+    filter.rebuild(storeOf(stored));
+
+    int probes = 100_000;
+    int rejected = 0;
+    for (int i = 0; i < probes; i++) {
+      if (filter.isDefinitelyMissing(UUID.randomUUID())) {
+        rejected++;
+      }
+    }
+
+    double falsePositiveRate = 1 - (double) rejected / probes;
+    assertTrue(falsePositiveRate < 0.015, "false-positive rate " + falsePositiveRate);
+    assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.002);
+  }
+
+  private static GreetingStore storeOf(List<Greeting> greetings) {
+    return new GreetingStore() {
+      @Override
+      public void save(Greeting greeting) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Optional<Greeting> findById(UUID id) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public List<Greeting> findAllById(Collection<UUID> ids) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public List<Greeting> findAfter(UUID afterId, int limit) {
+        int from = afterId == null ? 0 : indexOf(afterId) + 1;
+        return greetings.subList(from, Math.min(from + limit, greetings.size()));
+      }
+
+      private int indexOf(UUID id) {
+        for (int i = 0; i < greetings.size(); i++) {
+          if (greetings.get(i).id().equals(id)) {
+            return i;
+          }
+        }
+        throw new IllegalArgumentException(id.toString());
+      }
+    };
+  }
+}
@@ -0,0 +1,129 @@
+package com.example.template.domain.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.template.domain.Greeting;
+import com.example.template.domain.ports.out.CachedGreeting;
+import com.example.template.domain.ports.out.GreetingCache;
+import com.example.template.domain.ports.out.GreetingStore;
+import com.example.template.domain.ports.out.TransactionRunner;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class GreetingServiceImplTest {
+  private final Greeting greeting = new Greeting(UUID.randomUUID(), "Hello, User!");
+  private final RecordingCache cache = new RecordingCache();
+
+  @Test
+  void MissOnLaggingReplicaIsRecheckedAndNotCachedAsMissing() {
+    var service = new GreetingServiceImpl(new ReplicaStore(Optional.of(greeting)), cache, e -> {});
+
+    assertEquals(Optional.of(greeting), service.getGreeting(greeting.id()));
+    assertEquals(List.of(greeting), cache.puts);
+    assertTrue(cache.missing.isEmpty());
+  }
+
+  @Test
+  void MissConfirmedOnPrimaryIsCachedAsMissing() {
+    var service = new GreetingServiceImpl(new ReplicaStore(Optional.empty()), cache, e -> {});
+
+    assertEquals(Optional.empty(), service.getGreeting(greeting.id()));
+    assertEquals(List.of(greeting.id()), cache.missing);
+  }
+
+  @Test
+  void EarlyRefreshReturnsTheCachedGreetingAndReloadsInTheBackground() {
+    var expiringNow =
+        new RecordingCache() {
+          @Override
+          public Optional<CachedGreeting> getEntry(UUID id) {
+            return Optional.of(new CachedGreeting(greeting, Instant.now()));
+          }
+        };
+    var refreshes = new ArrayList<Runnable>();
+    var service =
+        new GreetingServiceImpl(
+            new ReplicaStore(Optional.of(greeting)),
+            expiringNow,
+            e -> {},
+            TransactionRunner.none(),
+            new ProbabilisticEarlyRefresh(1.0, Clock.systemUTC()),
+            new UuidV7Generator(Clock.systemUTC()),
+            GreetingIdFilter.disabled(),
+            refreshes::add);
+
+    assertEquals(Optional.of(greeting), service.getGreeting(greeting.id()));
+    assertEquals(1, refreshes.size());
+    assertTrue(expiringNow.puts.isEmpty());
+
+    refreshes.get(0).run();
+    assertEquals(List.of(greeting), expiringNow.puts);
+  }
+
+  /** A replica that has not replayed any greeting yet, in front of a primary that may have. */
+  private static class ReplicaStore implements GreetingStore {
+    private final Optional<Greeting> onPrimary;
+
+    ReplicaStore(Optional<Greeting> onPrimary) {
+      this.onPrimary = onPrimary;
+    }
+
+    @Override
+    public void save(Greeting greeting) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<Greeting> findById(UUID id) {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<Greeting> recheckMiss(UUID id) {
+      return onPrimary;
+    }
+
+    @Override
+    public List<Greeting> findAllById(Collection<UUID> ids) {
+      return List.of();
+    }
+
+    @Override
+    public List<Greeting> findAfter(UUID afterId, int limit) {
+      return List.of();
+    }
+  }
+
+  private static class RecordingCache implements GreetingCache {
+    final List<Greeting> puts = new ArrayList<>();
+    final List<UUID> missing = new ArrayList<>();
+
+    @Override
+    public Optional<Greeting> get(UUID id) {
+      return Optional.empty();
+    }
+
+    @Override
+    public void put(Greeting greeting) {
+      puts.add(greeting);
+    }
+
+    @Override
+    public void putMissing(UUID id) {
+      missing.add(id);
+    }
+
+    @Override
+    public void evict(UUID id) {}
+
+    @Override
+    public void evictAll() {}
+  }
+}
@@ -0,0 +1,142 @@
+package com.example.template.domain.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.template.domain.events.GreetingCreatedEvent;
+import com.example.template.domain.ports.in.GreetingBatchHandlingException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class KeyOrderedGreetingEventHandlerTest {
+  private final UUID first = UUID.randomUUID();
+  private final UUID second = UUID.randomUUID();
+
+  @Test
+  void HandlesGreetingsInParallelAndEachGreetingInOrder() {
+    var secondHandled = new CountDownLatch(1);
+    var handled = new CopyOnWriteArrayList<String>();
+    var events =
+        List.of(
+            GreetingCreatedEvent.from(first, "first-1"),
+            GreetingCreatedEvent.from(first, "first-2"),
+            GreetingCreatedEvent.from(second, "second-1"));
+
+    try (var handler =
+        new KeyOrderedGreetingEventHandler(
+            event -> {
+              if (event.message().equals("first-1")) {
+                // Only returns if the other greeting is handled while this one is still running.
+                await(secondHandled);
+              }
+              handled.add(event.message());
+              if (event.message().equals("second-1")) {
+                secondHandled.countDown();
+              }
+            },
+            Executors.newFixedThreadPool(2),
+            2)) {
+      handler.handleBatch(events);
+
+      assertEquals(List.of("second-1", "first-1", "first-2"), handled);
+      assertEquals(0, handler.inFlight());
+      assertEquals(2, handler.longestKeyQueue());
+    }
+  }
+
+  @Test
+  void ReportsLowestFailedIndexAndSkipsTheRestOfThatGreeting() {
+    var handled = new CopyOnWriteArrayList<String>();
+    var events =
+        List.of(
+            GreetingCreatedEvent.from(second, "second-1"),
+            GreetingCreatedEvent.from(first, "poison"),
+            GreetingCreatedEvent.from(first, "first-2"),
+            GreetingCreatedEvent.from(second, "second-2"));
+
+    try (var handler =
+        new KeyOrderedGreetingEventHandler(
+            event -> {
+              if (event.message().equals("poison")) {
+                throw new IllegalStateException("cannot handle");
+              }
+              handled.add(event.message());
+            },
+            Executors.newFixedThreadPool(2),
+            2)) {
+      var failure =
+          assertThrows(GreetingBatchHandlingException.class, () -> handler.handleBatch(events));
+
+      assertEquals(1, failure.failedIndex());
+      assertEquals(List.of("second-1", "second-2"), handled);
+      assertEquals(0, handler.inFlight());
+      assertEquals(0, handler.activeKeys());
+    }
+  }
+
+  @Test
+  void InterruptWaitsForTheRunningEventAndSkipsTheRest() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var handled = new CopyOnWriteArrayList<String>();
+    var events =
+        List.of(
+            GreetingCreatedEvent.from(first, "first-1"),
+            GreetingCreatedEvent.from(first, "first-2"));
+
+    try (var handler =
+        new KeyOrderedGreetingEventHandler(
+            event -> {
+              started.countDown();
+              await(release);
+              handled.add(event.message());
+            },
+            Executors.newFixedThreadPool(1),
+            1,
+            Duration.ofSeconds(5))) {
+      var failure = new AtomicReference<Throwable>();
+      var caller =
+          new Thread(
+              () -> {
+                try {
+                  handler.handleBatch(events);
+                } catch (Throwable e) {
+                  failure.set(e);
+                }
+              });
+      caller.start();
+      await(started);
+
+      caller.interrupt();
+      caller.join(200);
+      assertTrue(caller.isAlive(), "returned while an event was still running");
+
+      release.countDown();
+      caller.join(5000);
+
+      var batchFailure = assertInstanceOf(GreetingBatchHandlingException.class, failure.get());
+      assertEquals(1, batchFailure.failedIndex());
+      assertEquals(List.of("first-1"), handled);
+      assertEquals(0, handler.inFlight());
+      assertEquals(0, handler.activeKeys());
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(5, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.example.template.domain.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+  @Test
+  void ConcurrentCallersShareOneLoad() throws Exception {
+    var singleFlight = new SingleFlight<String, String>();
+    var loads = new AtomicInteger();
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      var results = new ArrayList<Future<String>>();
+      results.add(
+          executor.submit(
+              () ->
+                  singleFlight.load(
+                      "key",
+                      () -> {
+                        loads.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return "value";
+                      })));
+      started.await(5, TimeUnit.SECONDS);
+      for (int i = 0; i < 7; i++) {
+        results.add(
+            executor.submit(
+                () ->
+                    singleFlight.load(
+                        "key",
+                        () -> {
+                          loads.incrementAndGet();
+                          return "other";
+                        })));
+      }
+      while (singleFlight.coalescedCount() < 7) {
+        Thread.onSpinWait();
+      }
+      release.countDown();
+
+      for (var result : results) {
+        assertEquals("value", result.get(5, TimeUnit.SECONDS));
+      }
+      assertEquals(1, loads.get());
+      assertEquals(7, singleFlight.coalescedCount());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void FailedLoadIsNotCached() {
+    var singleFlight = new SingleFlight<String, String>();
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            singleFlight.load(
+                "key",
+                () -> {
+                  throw new IllegalStateException("boom");
+                }));
+
+    assertEquals("value", singleFlight.load("key", () -> "value"));
+  }
+
+  @Test
+  void RefreshRunsOnTheExecutorWithoutWaiting() throws Exception {
+    var singleFlight = new SingleFlight<String, String>();
+    var started = new ArrayList<Runnable>();
+
+    var refresh = singleFlight.refresh("key", () -> "refreshed", started::add);
+
+    assertFalse(refresh.isDone());
+    assertSame(refresh, singleFlight.refresh("key", () -> "other", started::add));
+    assertEquals(1, started.size());
+    started.get(0).run();
+    assertEquals("refreshed", refresh.get(5, TimeUnit.SECONDS));
+    assertEquals("value", singleFlight.load("key", () -> "value"));
+  }
+
+  @Test
+  void RejectedRefreshIsNotLeftInFlight() {
+    var singleFlight = new SingleFlight<String, String>();
+
+    var refresh =
+        singleFlight.refresh(
+            "key",
+            () -> "refreshed",
+            task -> {
+              throw new RejectedExecutionException("full");
+            });
+
+    assertTrue(refresh.isCompletedExceptionally());
+    assertEquals("value", singleFlight.load("key", () -> "value"));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
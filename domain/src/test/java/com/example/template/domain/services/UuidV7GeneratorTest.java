@@ -0,0 +1,118 @@
+package com.example.template.domain.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+  private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+  @Test
+  void IdsCarryVersionVariantAndTimestamp() {
+    var generator = new UuidV7Generator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    var id = generator.nextId();
+
+    assertEquals(7, id.version());
+    assertEquals(2, id.variant());
+    assertEquals(NOW.toEpochMilli(), UuidV7Generator.timestampOf(id));
+  }
+
+  @Test
+  void IdsIncreaseWithinOneMillisecondAndPastCounterOverflow() {
+    var generator = new UuidV7Generator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    var previous = generator.nextId();
+    for (int i = 0; i < 10_000; i++) {
+      var next = generator.nextId();
+      assertTrue(next.toString().compareTo(previous.toString()) > 0, previous + " !< " + next);
+      previous = next;
+    }
+  }
+
+  @Test
+  void IdsIncreaseWhenClockGoesBackwards() {
+    var clock = new MutableClock(NOW);
+    var generator = new UuidV7Generator(clock);
+
+    var before = generator.nextId();
+    clock.instant = NOW.minusSeconds(5);
+    var after = generator.nextId();
+
+    assertTrue(after.toString().compareTo(before.toString()) > 0);
+  }
+
+  @Test
+  void ConcurrentCallersGetUniqueIncreasingIds() throws Exception {
+    var generator = new UuidV7Generator(Clock.systemUTC());
+    Set<UUID> seen = ConcurrentHashMap.newKeySet();
+    int threads = 8;
+    int perThread = 20_000;
+    var start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    try {
+      var results = new ArrayList<Future<Boolean>>();
+      for (int t = 0; t < threads; t++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  var previous = generator.nextId();
+                  boolean increasing = seen.add(previous);
+                  for (int i = 1; i < perThread; i++) {
+                    var next = generator.nextId();
+                    increasing &= seen.add(next);
+                    increasing &= next.toString().compareTo(previous.toString()) > 0;
+                    previous = next;
+                  }
+                  return increasing;
+                }));
+      }
+      start.countDown();
+      for (var result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(threads * perThread, seen.size());
+  }
+
+  private static final class MutableClock extends Clock {
+    private volatile Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.graalvm.native) apply false
 }
 
 val springBootVersion: String by project
@@ -45,6 +46,30 @@ dependencies {
     testImplementation(libs.spring.kafka.test)
 }
 
+// Spring AOT: ./gradlew :runtime:bootJar -Paot. Conditional beans are decided while processing,
+// so pass the properties they depend on there, e.g. -PaotArgs=--greeting.ids.filter.enabled=true
+// Native image: ./gradlew :runtime:nativeCompile -Pnative (needs GraalVM; implies AOT).
+val nativeImage = providers.gradleProperty("native").isPresent
+if (nativeImage) {
+    apply(plugin = "org.graalvm.buildtools.native")
+    extensions.configure<org.graalvm.buildtools.gradle.dsl.GraalVMExtension> {
+        // Reachability metadata for third-party libraries comes from the GraalVM metadata
+        // repository, which the plugin enables by default.
+        binaries.named("main") {
+            imageName.set("runtime")
+            // Runs on any x86-64 or aarch64 host, not only the build machine's CPU generation.
+            buildArgs.add("-march=compatibility")
+        }
+    }
+} else if (providers.gradleProperty("aot").isPresent) {
+    apply(plugin = "org.springframework.boot.aot")
+}
+if (nativeImage || providers.gradleProperty("aot").isPresent) {
+    tasks.named<JavaExec>("processAot") {
+        providers.gradleProperty("aotArgs").orNull?.let { args(it.split(" ")) }
+    }
+}
+
 dependencyManagement {
     imports {
         mavenBom("org.springframework.boot:spring-boot-dependencies:$springBootVersion")
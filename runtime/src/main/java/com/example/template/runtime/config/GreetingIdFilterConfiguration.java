@@ -0,0 +1,92 @@
+package com.example.template.runtime.config;
+
+import com.example.template.domain.ports.out.GreetingStore;
+import com.example.template.domain.ports.out.IdGenerator;
+import com.example.template.domain.services.GreetingIdFilter;
+import com.example.template.domain.services.UuidV7Generator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "greeting.ids.filter.enabled", havingValue = "true")
+public class GreetingIdFilterConfiguration {
+  private static final Logger logger = LoggerFactory.getLogger(GreetingIdFilterConfiguration.class);
+
+  @Bean
+  public GreetingIdFilter greetingIdFilter(
+      IdGenerator idGenerator,
+      MeterRegistry meterRegistry,
+      @Value("${greeting.ids.filter.expected-insertions:10000000}") long expectedInsertions,
+      @Value("${greeting.ids.filter.false-positive-rate:0.01}") double falsePositiveRate,
+      @Value("${greeting.ids.filter.grace:5m}") Duration grace,
+      @Value("${greeting.ids.filter.random-ids-cutover:}") String randomIdsCutover) {
+    if (!(idGenerator instanceof UuidV7Generator)) {
+      // Without time-ordered ids, greetings created on other instances would be reported missing.
+      throw new IllegalStateException("greeting.ids.filter requires UUIDv7 greeting ids");
+    }
+    var filter =
+        new GreetingIdFilter(
+            expectedInsertions,
+            falsePositiveRate,
+            grace,
+            randomIdsCutover.isBlank() ? null : Instant.parse(randomIdsCutover),
+            Clock.systemUTC());
+
+    Gauge.builder("greeting.ids.filter.size", filter, GreetingIdFilter::sizeInBytes)
+        .description("Memory held by the greeting id Bloom filter")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder(
+            "greeting.ids.filter.false.positive.rate",
+            filter,
+            GreetingIdFilter::expectedFalsePositiveRate)
+        .description("Expected false-positive rate for the ids added so far")
+        .register(meterRegistry);
+    FunctionCounter.builder(
+            "greeting.ids.filter.false.positives", filter, GreetingIdFilter::falsePositiveCount)
+        .description("Lookups the filter let through that found no greeting in the store")
+        .register(meterRegistry);
+    FunctionCounter.builder("greeting.ids.filter.rejected", filter, GreetingIdFilter::rejectedCount)
+        .description("Lookups answered as missing without any cache or store access")
+        .register(meterRegistry);
+    Gauge.builder("greeting.ids.filter.ready", filter, f -> f.isReady() ? 1 : 0)
+        .description("1 once the filter has been rebuilt from the store")
+        .register(meterRegistry);
+
+    return filter;
+  }
+
+  /** Streams the greetings table into the filter on a background thread once the app is up. */
+  @Bean
+  public ApplicationListener<ApplicationReadyEvent> greetingIdFilterLoader(
+      GreetingIdFilter greetingIdFilter, GreetingStore greetingStore) {
+    return event ->
+        Thread.ofPlatform()
+            .name("greeting-id-filter-rebuild")
+            .daemon()
+            .start(
+                () -> {
+                  long start = System.nanoTime();
+                  try {
+                    greetingIdFilter.rebuild(greetingStore);
+                    logger.info(
+                        "Rebuilt greeting id filter in {} ms",
+                        (System.nanoTime() - start) / 1_000_000);
+                  } catch (RuntimeException e) {
+                    logger.error("Greeting id filter rebuild failed; lookups are not filtered", e);
+                  }
+                });
+  }
+}
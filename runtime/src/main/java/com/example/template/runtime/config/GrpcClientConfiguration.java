@@ -0,0 +1,35 @@
+package com.example.template.runtime.config;
+
+import com.example.template.adapters.grpc.generated.GreetingServiceGrpc;
+import com.example.template.adapters.out.grpc.GrpcAsyncExternalGreetingClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+@Configuration
+public class GrpcClientConfiguration {
+
+  private static final String EXTERNAL_GREETING_SERVICE = "external-greeting-service";
+
+  /** Created on first use, so the channel is not set up by instances that never call out. */
+  @Bean
+  @Lazy
+  public GrpcAsyncExternalGreetingClient asyncExternalGreetingClient(
+      GrpcChannelFactory channelFactory,
+      MeterRegistry meterRegistry,
+      @Value("${greeting.external.deadline:2s}") Duration deadline,
+      @Value("${greeting.external.hedging.enabled:false}") boolean hedging,
+      @Value("${greeting.external.hedging.initial-delay:100ms}") Duration initialHedgeDelay) {
+    var channel = channelFactory.createChannel(EXTERNAL_GREETING_SERVICE);
+    return new GrpcAsyncExternalGreetingClient(
+        GreetingServiceGrpc.newFutureStub(channel),
+        meterRegistry,
+        deadline,
+        hedging,
+        initialHedgeDelay);
+  }
+}
@@ -0,0 +1,199 @@
+package com.example.template.runtime.config;
+
+import com.example.template.adapters.in.grpc.CompressionServerInterceptor;
+import com.example.template.adapters.in.grpc.OverloadProtectionServerInterceptor;
+import io.grpc.ServerInterceptor;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.ServerChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import net.devh.boot.grpc.common.util.InterceptorOrder;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Transport settings of the gRPC server that the starter has no properties for. Message size limits
+ * and keepalive are plain {@code grpc.server.*} properties; see {@code application.yml}.
+ */
+@Configuration
+public class GrpcServerTuningConfiguration {
+
+  @Bean(destroyMethod = "close")
+  public NettyEventLoops grpcServerEventLoops(
+      @Value("${greeting.grpc.server.event-loops.boss-threads:0}") int bossThreads,
+      @Value("${greeting.grpc.server.event-loops.worker-threads:0}") int workerThreads) {
+    return new NettyEventLoops(bossThreads, workerThreads);
+  }
+
+  @Bean
+  public GrpcServerConfigurer grpcTransportConfigurer(
+      NettyEventLoops grpcServerEventLoops,
+      @Value("${greeting.grpc.server.max-concurrent-calls-per-connection:0}") int maxCalls,
+      @Value("${greeting.grpc.server.flow-control-window:0}") DataSize flowControlWindow) {
+    return serverBuilder -> {
+      // The in-process server used by tests has none of these settings.
+      if (!(serverBuilder instanceof NettyServerBuilder netty)) {
+        return;
+      }
+      grpcServerEventLoops.applyTo(netty);
+      if (maxCalls > 0) {
+        netty.maxConcurrentCallsPerConnection(maxCalls);
+      }
+      if (flowControlWindow.toBytes() > 0) {
+        // The initial window; gRPC still grows it with its bandwidth-delay estimate.
+        netty.flowControlWindow(Math.toIntExact(flowControlWindow.toBytes()));
+      }
+    };
+  }
+
+  @GrpcGlobalServerInterceptor
+  @Order(InterceptorOrder.ORDER_TRACING_METRICS + 2)
+  public ServerInterceptor grpcCompressionServerInterceptor(
+      @Value("${greeting.grpc.server.compression.methods:}") List<String> methods,
+      @Value("${greeting.grpc.server.compression.algorithm:gzip}") String algorithm) {
+    return new CompressionServerInterceptor(methods, algorithm);
+  }
+
+  /**
+   * Runs calls on a fixed pool of platform threads instead of the starter's unbounded cached pool,
+   * and sheds load once too many calls wait for it. Not used in virtual-thread mode, which gives
+   * every call its own thread.
+   */
+  @Configuration
+  @ConditionalOnProperty(name = "greeting.grpc.server.executor.enabled", havingValue = "true")
+  @ConditionalOnThreading(Threading.PLATFORM)
+  static class BoundedExecutorConfiguration {
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedExecutor grpcServerExecutor(
+        MeterRegistry meterRegistry,
+        @Value("${greeting.grpc.server.executor.threads:64}") int threads,
+        @Value("${greeting.grpc.server.executor.max-queued:256}") int maxQueued) {
+      return new BoundedExecutor(threads, maxQueued, meterRegistry);
+    }
+
+    @Bean
+    public GrpcServerConfigurer grpcExecutorConfigurer(BoundedExecutor grpcServerExecutor) {
+      return serverBuilder -> serverBuilder.executor(grpcServerExecutor.executor());
+    }
+
+    /** Inside the metrics interceptor, so rejected calls are counted as RESOURCE_EXHAUSTED. */
+    @GrpcGlobalServerInterceptor
+    @Order(InterceptorOrder.ORDER_TRACING_METRICS + 1)
+    public ServerInterceptor grpcOverloadProtectionInterceptor(
+        BoundedExecutor grpcServerExecutor,
+        MeterRegistry meterRegistry,
+        @Value("${greeting.grpc.server.executor.max-queued:256}") int maxQueued) {
+      return new OverloadProtectionServerInterceptor(
+          grpcServerExecutor::queued, maxQueued, meterRegistry);
+    }
+  }
+
+  /**
+   * Not a bean of type {@code Executor}, which would replace Spring Boot's task executor.
+   *
+   * <p>gRPC serializes the work of each call, so a call has at most one task in the queue. The
+   * overload interceptor turns new calls away once {@code maxQueued} tasks wait, and the queue is
+   * capped at {@code maxQueued + threads} for bursts that arrive faster than it can. Tasks beyond
+   * the cap are rejected, which resets the new stream or fails the call, and are counted as {@code
+   * grpc.server.executor.rejected}. {@code executor.queued} and {@code executor.idle} (time spent
+   * queued) are exported with {@code name=grpc.server}.
+   */
+  static class BoundedExecutor {
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService monitored;
+
+    BoundedExecutor(int threads, int maxQueued, MeterRegistry meterRegistry) {
+      var rejected =
+          Counter.builder("grpc.server.executor.rejected")
+              .description("Tasks rejected because the gRPC server executor queue was full")
+              .register(meterRegistry);
+      var abort = new ThreadPoolExecutor.AbortPolicy();
+      this.pool =
+          new ThreadPoolExecutor(
+              threads,
+              threads,
+              0,
+              TimeUnit.MILLISECONDS,
+              new ArrayBlockingQueue<>(maxQueued + threads),
+              new DefaultThreadFactory("grpc-server-app", true),
+              (task, executor) -> {
+                rejected.increment();
+                abort.rejectedExecution(task, executor);
+              });
+      this.monitored = ExecutorServiceMetrics.monitor(meterRegistry, pool, "grpc.server");
+    }
+
+    ExecutorService executor() {
+      return monitored;
+    }
+
+    int queued() {
+      return pool.getQueue().size();
+    }
+
+    void shutdown() {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Dedicated Netty event loops for the server, so its I/O does not share threads with the gRPC
+   * clients. Both counts 0 keeps gRPC's shared defaults; otherwise a 0 count gets Netty's default.
+   */
+  static class NettyEventLoops {
+    private final EventLoopGroup boss;
+    private final EventLoopGroup worker;
+    private final Class<? extends ServerChannel> channelType;
+
+    NettyEventLoops(int bossThreads, int workerThreads) {
+      if (bossThreads == 0 && workerThreads == 0) {
+        boss = null;
+        worker = null;
+        channelType = null;
+      } else if (Epoll.isAvailable()) {
+        boss = new EpollEventLoopGroup(bossThreads, new DefaultThreadFactory("grpc-boss", true));
+        worker = new EpollEventLoopGroup(workerThreads, new DefaultThreadFactory("grpc-io", true));
+        channelType = EpollServerSocketChannel.class;
+      } else {
+        boss = new NioEventLoopGroup(bossThreads, new DefaultThreadFactory("grpc-boss", true));
+        worker = new NioEventLoopGroup(workerThreads, new DefaultThreadFactory("grpc-io", true));
+        channelType = NioServerSocketChannel.class;
+      }
+    }
+
+    void applyTo(NettyServerBuilder builder) {
+      if (boss != null) {
+        builder.bossEventLoopGroup(boss).workerEventLoopGroup(worker).channelType(channelType);
+      }
+    }
+
+    void close() {
+      if (boss != null) {
+        boss.shutdownGracefully(0, 5, TimeUnit.SECONDS);
+        worker.shutdownGracefully(0, 5, TimeUnit.SECONDS);
+      }
+    }
+  }
+}
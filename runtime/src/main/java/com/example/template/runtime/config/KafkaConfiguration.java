@@ -1,24 +1,36 @@
 package com.example.template.runtime.config;
 
+import com.example.template.adapters.codec.GreetingEventKafkaDeserializer;
+import com.example.template.adapters.codec.GreetingEventKafkaSerializer;
+import com.example.template.adapters.codec.WireFormat;
+import com.example.template.adapters.out.messaging.KafkaGreetingEventPublisher;
+import com.example.template.adapters.out.messaging.ProducerProfile;
 import com.example.template.domain.events.GreetingCreatedEvent;
 import com.example.template.domain.ports.in.GreetingEventHandler;
+import com.example.template.domain.services.KeyOrderedGreetingEventHandler;
 import com.example.template.domain.services.LoggingGreetingEventHandler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executors;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 @Configuration
@@ -30,40 +42,84 @@ public class KafkaConfiguration {
   @Value("${spring.kafka.consumer.group-id:greeting-service-group}")
   private String consumerGroupId;
 
+  @Value("${greeting.kafka.consumer.max-poll-records:500}")
+  private int maxPollRecords;
+
+  @Value("${greeting.codec.write-format:json}")
+  private WireFormat writeFormat;
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
+  @Value("${greeting.kafka.producer.profile:default}")
+  private ProducerProfile producerProfile;
+
+  @Value("${greeting.kafka.producer.max-block:5s}")
+  private Duration producerMaxBlock;
+
+  @Value("${greeting.kafka.consumer.processing:sequential}")
+  private String processing;
+
+  @Value("${greeting.kafka.consumer.parallelism:16}")
+  private int parallelism;
+
+  /**
+   * Exports the producer's own metrics, such as {@code kafka.producer.batch.size.avg}, {@code
+   * kafka.producer.record.queue.time.avg} and {@code kafka.producer.compression.rate.avg}.
+   */
   @Bean
-  public ProducerFactory<String, GreetingCreatedEvent> greetingEventProducerFactory() {
-    Map<String, Object> config = new HashMap<>();
+  public ProducerFactory<String, GreetingCreatedEvent> greetingEventProducerFactory(
+      MeterRegistry meterRegistry) {
+    Map<String, Object> config = new HashMap<>(producerProfile.settings());
     config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-    config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-    config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
     config.put(ProducerConfig.ACKS_CONFIG, "all");
     config.put(ProducerConfig.RETRIES_CONFIG, 3);
     config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-    return new DefaultKafkaProducerFactory<>(config);
+    // A full buffer fails the send after this instead of the default 60 seconds.
+    config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, producerMaxBlock.toMillis());
+    var factory =
+        new DefaultKafkaProducerFactory<>(
+            config, new StringSerializer(), greetingEventSerializer());
+    factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+    return factory;
+  }
+
+  private Serializer<GreetingCreatedEvent> greetingEventSerializer() {
+    if (writeFormat == WireFormat.JSON) {
+      return new JsonSerializer<>();
+    }
+    return new GreetingEventKafkaSerializer();
   }
 
   @Bean
-  public KafkaTemplate<String, GreetingCreatedEvent> kafkaTemplate() {
+  public KafkaTemplate<String, GreetingCreatedEvent> kafkaTemplate(
+      ProducerFactory<String, GreetingCreatedEvent> greetingEventProducerFactory) {
     KafkaTemplate<String, GreetingCreatedEvent> template =
-        new KafkaTemplate<>(greetingEventProducerFactory());
+        new KafkaTemplate<>(greetingEventProducerFactory);
     template.setObservationEnabled(true);
     return template;
   }
 
+  @Bean
+  public KafkaGreetingEventPublisher kafkaGreetingEventPublisher(
+      KafkaTemplate<String, GreetingCreatedEvent> kafkaTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${greeting.kafka.producer.max-in-flight:10000}") int maxInFlight,
+      @Value("${greeting.kafka.producer.enqueue-timeout:1s}") Duration enqueueTimeout) {
+    return new KafkaGreetingEventPublisher(
+        kafkaTemplate, meterRegistry, maxInFlight, enqueueTimeout);
+  }
+
   @Bean
   public ConsumerFactory<String, GreetingCreatedEvent> greetingEventConsumerFactory() {
     Map<String, Object> config = new HashMap<>();
     config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
     config.put(ConsumerConfig.GROUP_ID_CONFIG, consumerGroupId);
     config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-    config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-    config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+    config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
 
-    JsonDeserializer<GreetingCreatedEvent> deserializer =
-        new JsonDeserializer<>(GreetingCreatedEvent.class);
-    deserializer.addTrustedPackages("com.example.template.domain.events");
-
-    return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), deserializer);
+    return new DefaultKafkaConsumerFactory<>(
+        config, new StringDeserializer(), new GreetingEventKafkaDeserializer());
   }
 
   @Bean
@@ -73,12 +129,65 @@ public class KafkaConfiguration {
         new ConcurrentKafkaListenerContainerFactory<>();
     factory.setConsumerFactory(greetingEventConsumerFactory());
     factory.setConcurrency(3);
+    factory.setBatchListener(true);
     factory.getContainerProperties().setObservationEnabled(true);
+    if (virtualThreads) {
+      var listenerExecutor = new SimpleAsyncTaskExecutor("greeting-kafka-listener-");
+      listenerExecutor.setVirtualThreads(true);
+      factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+    }
     return factory;
   }
 
   @Bean
-  public GreetingEventHandler greetingEventHandler() {
-    return new LoggingGreetingEventHandler();
+  public GreetingEventHandler greetingEventHandler(MeterRegistry meterRegistry) {
+    var handler = new LoggingGreetingEventHandler();
+    return switch (processing) {
+      case "sequential" -> handler;
+      case "key-ordered" -> keyOrderedEventHandler(handler, meterRegistry);
+      default ->
+          throw new IllegalArgumentException(
+              "Unknown greeting.kafka.consumer.processing: " + processing);
+    };
+  }
+
+  /**
+   * Handles the events of each polled batch on up to {@code parallelism} workers, in order per
+   * greeting, so processing scales past the partition count. Closed with the context.
+   */
+  private KeyOrderedGreetingEventHandler keyOrderedEventHandler(
+      GreetingEventHandler handler, MeterRegistry meterRegistry) {
+    var executor =
+        virtualThreads
+            ? Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("greeting-event-worker-", 0).factory())
+            : Executors.newFixedThreadPool(
+                parallelism,
+                Thread.ofPlatform().name("greeting-event-worker-", 0).daemon().factory());
+    var keyOrdered = new KeyOrderedGreetingEventHandler(handler, executor, parallelism);
+
+    Gauge.builder(
+            "kafka.greeting.events.in.flight", keyOrdered, KeyOrderedGreetingEventHandler::inFlight)
+        .description("Greeting events handed to workers and not yet handled")
+        .register(meterRegistry);
+    Gauge.builder(
+            "kafka.greeting.events.keys.active",
+            keyOrdered,
+            KeyOrderedGreetingEventHandler::activeKeys)
+        .description("Greetings with events in flight")
+        .register(meterRegistry);
+    Gauge.builder(
+            "kafka.greeting.events.key.queued",
+            keyOrdered,
+            KeyOrderedGreetingEventHandler::queuedBehindKey)
+        .description("Events waiting for an earlier event of the same greeting")
+        .register(meterRegistry);
+    Gauge.builder(
+            "kafka.greeting.events.key.queue.longest",
+            keyOrdered,
+            KeyOrderedGreetingEventHandler::longestKeyQueue)
+        .description("Most events for one greeting in the latest batch")
+        .register(meterRegistry);
+    return keyOrdered;
   }
 }
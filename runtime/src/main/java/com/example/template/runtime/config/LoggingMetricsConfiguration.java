@@ -0,0 +1,49 @@
+package com.example.template.runtime.config;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.example.template.runtime.logging.DiscardCountingAsyncAppender;
+import com.example.template.runtime.logging.InfoSamplingTurboFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Exports what the async appender and the INFO sampler from {@code logback-spring.xml} drop. */
+@Configuration
+public class LoggingMetricsConfiguration {
+
+  @Bean
+  public MeterBinder loggingDropMetrics() {
+    return meterRegistry -> {
+      if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+        return;
+      }
+      var root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+      if (root.getAppender("ASYNC") instanceof DiscardCountingAsyncAppender async) {
+        FunctionCounter.builder(
+                "logging.events.dropped", async, DiscardCountingAsyncAppender::discardedCount)
+            .description("Log events dropped instead of written")
+            .tag("reason", "buffer_full")
+            .register(meterRegistry);
+        Gauge.builder(
+                "logging.async.queue.size",
+                async,
+                DiscardCountingAsyncAppender::getNumberOfElementsInQueue)
+            .description("Log events waiting in the async appender's buffer")
+            .register(meterRegistry);
+      }
+      for (var filter : context.getTurboFilterList()) {
+        if (filter instanceof InfoSamplingTurboFilter sampler) {
+          FunctionCounter.builder(
+                  "logging.events.dropped", sampler, InfoSamplingTurboFilter::sampledOutCount)
+              .description("Log events dropped instead of written")
+              .tag("reason", "sampled")
+              .register(meterRegistry);
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,111 @@
+package com.example.template.runtime.config;
+
+import com.example.template.adapters.codec.GreetingEventKafkaDeserializer;
+import com.example.template.adapters.codec.GreetingEventKafkaSerializer;
+import com.example.template.adapters.codec.GreetingRedisSerializer;
+import com.example.template.adapters.grpc.generated.BatchGetGreetingsRequest;
+import com.example.template.adapters.grpc.generated.BatchGetGreetingsResponse;
+import com.example.template.adapters.grpc.generated.CreateGreetingRequest;
+import com.example.template.adapters.grpc.generated.CreateGreetingsResponse;
+import com.example.template.adapters.grpc.generated.GetGreetingRequest;
+import com.example.template.adapters.grpc.generated.GreetingResponse;
+import com.example.template.adapters.grpc.generated.GreetingServiceGrpc;
+import com.example.template.adapters.grpc.generated.StreamGreetingsRequest;
+import com.example.template.adapters.out.persistence.GreetingEntity;
+import com.example.template.domain.Greeting;
+import com.example.template.domain.events.GreetingCreatedEvent;
+import com.example.template.runtime.logging.DiscardCountingAsyncAppender;
+import com.example.template.runtime.logging.InfoSamplingTurboFilter;
+import java.util.List;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reachability metadata for a native image that Spring AOT cannot infer. Everything Spring creates
+ * itself, such as beans, controller payloads, repositories and Flyway migrations, is covered by AOT
+ * processing. Netty, Hibernate and Kafka ship their own metadata or get it from the GraalVM
+ * metadata repository.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfiguration.GreetingRuntimeHints.class)
+public class NativeHintsConfiguration {
+
+  static class GreetingRuntimeHints implements RuntimeHintsRegistrar {
+    private static final List<Class<?>> PROTO_MESSAGES =
+        List.of(
+            CreateGreetingRequest.class,
+            GetGreetingRequest.class,
+            GreetingResponse.class,
+            BatchGetGreetingsRequest.class,
+            BatchGetGreetingsResponse.class,
+            CreateGreetingsResponse.class,
+            StreamGreetingsRequest.class);
+
+    private static final String PROVIDERS = "net.logstash.logback.composite.loggingevent.";
+
+    // Logback builds these from logback-spring.xml by class name and calls their setters.
+    static final List<String> LOGBACK_COMPONENTS =
+        List.of(
+            DiscardCountingAsyncAppender.class.getName(),
+            InfoSamplingTurboFilter.class.getName(),
+            "net.logstash.logback.encoder.LoggingEventCompositeJsonEncoder",
+            PROVIDERS + "LoggingEventJsonProviders",
+            PROVIDERS + "LoggingEventFormattedTimestampJsonProvider",
+            PROVIDERS + "LogLevelJsonProvider",
+            PROVIDERS + "ThreadNameJsonProvider",
+            PROVIDERS + "LoggerNameJsonProvider",
+            PROVIDERS + "MessageJsonProvider",
+            PROVIDERS + "MdcJsonProvider",
+            PROVIDERS + "StackTraceJsonProvider",
+            PROVIDERS + "LoggingEventPatternJsonProvider");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+      // Protobuf's field accessors find the generated getters and builder setters reflectively.
+      for (var message : PROTO_MESSAGES) {
+        hints.reflection().registerType(message, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints
+            .reflection()
+            .registerType(
+                TypeReference.of(message.getName() + "$Builder"),
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+      }
+      hints
+          .reflection()
+          .registerType(GreetingServiceGrpc.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+      // JSON wire format for Redis values and Kafka events, and the Kafka codecs themselves.
+      new BindingReflectionHintsRegistrar()
+          .registerReflectionHints(hints.reflection(), Greeting.class, GreetingCreatedEvent.class);
+      for (var codec :
+          List.of(
+              GreetingEventKafkaSerializer.class,
+              GreetingEventKafkaDeserializer.class,
+              GreetingRedisSerializer.class)) {
+        hints.reflection().registerType(codec, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+      }
+
+      hints
+          .reflection()
+          .registerType(
+              GreetingEntity.class,
+              MemberCategory.DECLARED_FIELDS,
+              MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+              MemberCategory.INVOKE_DECLARED_METHODS);
+
+      for (var component : LOGBACK_COMPONENTS) {
+        hints
+            .reflection()
+            .registerType(
+                TypeReference.of(component),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+      }
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.example.template.runtime.config;
+
+import com.example.template.adapters.out.messaging.KafkaGreetingEventPublisher;
+import com.example.template.adapters.out.outbox.GreetingOutboxRelay;
+import com.example.template.adapters.out.outbox.JdbcGreetingOutbox;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class OutboxConfiguration {
+
+  @Bean
+  public GreetingOutboxRelay greetingOutboxRelay(
+      JdbcGreetingOutbox outbox,
+      KafkaGreetingEventPublisher publisher,
+      MeterRegistry meterRegistry,
+      @Value("${greeting.outbox.relay.batch-size:500}") int batchSize,
+      @Value("${greeting.outbox.relay.send-timeout:30s}") Duration sendTimeout) {
+    return new GreetingOutboxRelay(outbox, publisher, meterRegistry, batchSize, sendTimeout);
+  }
+}
@@ -0,0 +1,53 @@
+package com.example.template.runtime.config;
+
+import com.example.template.adapters.out.persistence.BufferedGreetingStore;
+import com.example.template.adapters.out.persistence.JpaGreetingStore;
+import com.example.template.adapters.out.persistence.SpringTransactionRunner;
+import com.example.template.domain.ports.out.TransactionRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class PersistenceConfiguration {
+
+  @Bean
+  @Primary
+  @ConditionalOnProperty(name = "greeting.store.write-behind.enabled", havingValue = "true")
+  public BufferedGreetingStore bufferedGreetingStore(
+      JpaGreetingStore jpaGreetingStore,
+      SpringTransactionRunner transactionRunner,
+      MeterRegistry meterRegistry,
+      @Value("${greeting.store.write-behind.capacity:10000}") int capacity,
+      @Value("${greeting.store.write-behind.batch-size:500}") int batchSize,
+      @Value("${greeting.store.write-behind.max-delay:10ms}") Duration maxDelay,
+      @Value("${greeting.store.write-behind.enqueue-timeout:1s}") Duration enqueueTimeout,
+      @Value("${greeting.store.write-behind.commit-timeout:10s}") Duration commitTimeout,
+      @Value("${greeting.store.write-behind.wait-for-commit:true}") boolean waitForCommit) {
+    return new BufferedGreetingStore(
+        jpaGreetingStore,
+        transactionRunner,
+        meterRegistry,
+        capacity,
+        batchSize,
+        maxDelay,
+        enqueueTimeout,
+        commitTimeout,
+        waitForCommit);
+  }
+
+  /**
+   * The write-behind store commits each greeting with its event in a transaction of its own, so the
+   * service must not open one around a create.
+   */
+  @Bean
+  @Primary
+  @ConditionalOnProperty(name = "greeting.store.write-behind.enabled", havingValue = "true")
+  public TransactionRunner writeBehindTransactionRunner() {
+    return TransactionRunner.none();
+  }
+}
@@ -1,11 +1,30 @@
 package com.example.template.runtime.config;
 
+import com.example.template.adapters.codec.GreetingRedisCodec;
+import com.example.template.adapters.codec.GreetingRedisSerializer;
+import com.example.template.adapters.codec.WireFormat;
+import com.example.template.adapters.out.cache.AdaptiveCachePolicy;
+import com.example.template.adapters.out.cache.CachePolicy;
+import com.example.template.adapters.out.cache.LettuceGreetingCache;
+import com.example.template.adapters.out.cache.RedisGreetingCache;
+import com.example.template.adapters.out.cache.TieredGreetingCache;
 import com.example.template.domain.Greeting;
+import com.example.template.domain.ports.out.GreetingCache;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -13,13 +32,105 @@ public class RedisConfiguration {
 
   @Bean
   public RedisTemplate<String, Greeting> greetingRedisTemplate(
-      RedisConnectionFactory connectionFactory) {
+      RedisConnectionFactory connectionFactory,
+      @Value("${greeting.codec.write-format:json}") WireFormat writeFormat) {
+    var valueSerializer = new GreetingRedisSerializer(writeFormat);
     RedisTemplate<String, Greeting> template = new RedisTemplate<>();
     template.setConnectionFactory(connectionFactory);
     template.setKeySerializer(new StringRedisSerializer());
-    template.setValueSerializer(new Jackson2JsonRedisSerializer<>(Greeting.class));
+    template.setValueSerializer(valueSerializer);
     template.setHashKeySerializer(new StringRedisSerializer());
-    template.setHashValueSerializer(new Jackson2JsonRedisSerializer<>(Greeting.class));
+    template.setHashValueSerializer(valueSerializer);
     return template;
   }
+
+  @Bean
+  public CachePolicy greetingCachePolicy(
+      MeterRegistry meterRegistry,
+      @Value("${greeting.cache.redis.policy.type:fixed}") String type,
+      @Value("${greeting.cache.redis.policy.ttl:30m}") Duration ttl,
+      @Value("${greeting.cache.redis.policy.expected-entries:100000}") int expectedEntries,
+      @Value("${greeting.cache.redis.policy.admit-after:1}") int admitAfter,
+      @Value("${greeting.cache.redis.policy.hot-after:8}") int hotAfter,
+      @Value("${greeting.cache.redis.policy.hot-ttl:2h}") Duration hotTtl,
+      @Value("${greeting.cache.redis.policy.jitter:0.1}") double jitter) {
+    return switch (type) {
+      case "fixed" -> CachePolicy.fixed(ttl);
+      case "adaptive" ->
+          new AdaptiveCachePolicy(
+              expectedEntries, admitAfter, ttl, hotAfter, hotTtl, jitter, meterRegistry);
+      default ->
+          throw new IllegalArgumentException("Unknown greeting.cache.redis.policy.type: " + type);
+    };
+  }
+
+  @Bean
+  @ConditionalOnProperty(
+      name = "greeting.cache.redis.client",
+      havingValue = "pooled",
+      matchIfMissing = true)
+  public RedisGreetingCache redisGreetingCache(
+      RedisTemplate<String, Greeting> greetingRedisTemplate,
+      MeterRegistry meterRegistry,
+      CachePolicy greetingCachePolicy,
+      @Value("${greeting.cache.redis.missing-ttl:30s}") Duration missingTtl) {
+    return new RedisGreetingCache(
+        greetingRedisTemplate, meterRegistry, greetingCachePolicy, missingTtl);
+  }
+
+  /**
+   * One connection for all cache traffic, opened on the client that Spring Boot configured, so it
+   * shares its host, credentials and I/O threads.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(name = "greeting.cache.redis.client", havingValue = "multiplexed")
+  public StatefulRedisConnection<String, Greeting> greetingRedisConnection(
+      LettuceConnectionFactory connectionFactory,
+      @Value("${greeting.codec.write-format:json}") WireFormat writeFormat) {
+    var client = (RedisClient) connectionFactory.getRequiredNativeClient();
+    return client.connect(new GreetingRedisCodec(writeFormat));
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "greeting.cache.redis.client", havingValue = "multiplexed")
+  public LettuceGreetingCache lettuceGreetingCache(
+      StatefulRedisConnection<String, Greeting> greetingRedisConnection,
+      MeterRegistry meterRegistry,
+      CachePolicy greetingCachePolicy,
+      @Value("${spring.data.redis.timeout:2s}") Duration timeout,
+      @Value("${greeting.cache.redis.missing-ttl:30s}") Duration missingTtl) {
+    return new LettuceGreetingCache(
+        greetingRedisConnection, meterRegistry, timeout, greetingCachePolicy, missingTtl);
+  }
+
+  @Bean
+  public RedisMessageListenerContainer greetingRedisListenerContainer(
+      RedisConnectionFactory connectionFactory) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    return container;
+  }
+
+  @Bean
+  @Primary
+  @ConditionalOnProperty(
+      name = "greeting.cache.local.enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  public TieredGreetingCache tieredGreetingCache(
+      // The Redis cache selected above; a factory method is never handed its own bean.
+      GreetingCache remoteGreetingCache,
+      StringRedisTemplate stringRedisTemplate,
+      RedisMessageListenerContainer greetingRedisListenerContainer,
+      MeterRegistry meterRegistry,
+      @Value("${greeting.cache.local.maximum-size:10000}") long maximumSize,
+      @Value("${greeting.cache.local.ttl:1m}") Duration ttl,
+      @Value("${greeting.cache.redis.policy.ttl:30m}") Duration remoteTtl) {
+    TieredGreetingCache cache =
+        new TieredGreetingCache(
+            remoteGreetingCache, stringRedisTemplate, meterRegistry, maximumSize, ttl, remoteTtl);
+    greetingRedisListenerContainer.addMessageListener(
+        cache, new ChannelTopic(TieredGreetingCache.INVALIDATION_CHANNEL));
+    return cache;
+  }
 }
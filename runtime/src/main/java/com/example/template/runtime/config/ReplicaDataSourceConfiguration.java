@@ -0,0 +1,115 @@
+package com.example.template.runtime.config;
+
+import com.example.template.adapters.in.grpc.CallCleanupServerInterceptor;
+import com.example.template.adapters.in.rest.RequestCleanupFilter;
+import com.example.template.adapters.out.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.grpc.ServerInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import javax.sql.DataSource;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Replaces the auto-configured DataSource with one primary pool and one pool per replica in {@code
+ * greeting.datasource.replicas.urls}. Every pool gets the {@code spring.datasource.hikari} settings
+ * and reports its own Hikari metrics, tagged with its pool name. Replica lag is checked by a
+ * {@code @Scheduled} method, so this enables scheduling itself.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "greeting.datasource.replicas.urls")
+public class ReplicaDataSourceConfiguration {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariConfig greetingHikariConfig() {
+    return new HikariConfig();
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      DataSourceProperties properties,
+      HikariConfig greetingHikariConfig,
+      MeterRegistry meterRegistry,
+      @Value("${greeting.datasource.replicas.urls}") List<String> replicaUrls,
+      @Value("${greeting.datasource.replicas.username:${spring.datasource.username}}")
+          String replicaUsername,
+      @Value("${greeting.datasource.replicas.password:${spring.datasource.password}}")
+          String replicaPassword,
+      @Value("${greeting.datasource.replicas.max-lag:5s}") Duration maxLag) {
+    var primary =
+        pool(
+            greetingHikariConfig,
+            meterRegistry,
+            ReplicaRoutingDataSource.PRIMARY,
+            properties.determineUrl(),
+            properties.determineUsername(),
+            properties.determinePassword());
+
+    var replicas = new LinkedHashMap<String, DataSource>();
+    for (int i = 0; i < replicaUrls.size(); i++) {
+      var name = "replica-" + i;
+      replicas.put(
+          name,
+          pool(
+              greetingHikariConfig,
+              meterRegistry,
+              name,
+              replicaUrls.get(i).trim(),
+              replicaUsername,
+              replicaPassword));
+    }
+    return new ReplicaRoutingDataSource(primary, replicas, maxLag, meterRegistry);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+
+  /** Ends the read-your-writes pin with the HTTP request that set it. */
+  @Bean
+  public RequestCleanupFilter replicaPinCleanupFilter(
+      ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new RequestCleanupFilter(replicaRoutingDataSource::releasePrimaryPin);
+  }
+
+  /** Ends the read-your-writes pin with the gRPC callback that set it. */
+  @GrpcGlobalServerInterceptor
+  public ServerInterceptor replicaPinCleanupInterceptor(
+      ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new CallCleanupServerInterceptor(replicaRoutingDataSource::releasePrimaryPin);
+  }
+
+  private static HikariDataSource pool(
+      HikariConfig base,
+      MeterRegistry meterRegistry,
+      String name,
+      String url,
+      String username,
+      String password) {
+    var config = new HikariConfig();
+    base.copyStateTo(config);
+    config.setPoolName(name);
+    config.setJdbcUrl(url);
+    config.setUsername(username);
+    config.setPassword(password);
+    config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    return new HikariDataSource(config);
+  }
+}
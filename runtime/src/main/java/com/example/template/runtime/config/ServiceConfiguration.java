@@ -3,18 +3,55 @@ package com.example.template.runtime.config;
 import com.example.template.domain.ports.out.GreetingCache;
 import com.example.template.domain.ports.out.GreetingEventPublisher;
 import com.example.template.domain.ports.out.GreetingStore;
+import com.example.template.domain.ports.out.IdGenerator;
+import com.example.template.domain.ports.out.TransactionRunner;
+import com.example.template.domain.services.GreetingIdFilter;
 import com.example.template.domain.services.GreetingService;
 import com.example.template.domain.services.GreetingServiceImpl;
+import com.example.template.domain.services.ProbabilisticEarlyRefresh;
+import com.example.template.domain.services.UuidV7Generator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class ServiceConfiguration {
+  @Bean
+  @ConditionalOnMissingBean
+  public IdGenerator idGenerator() {
+    return new UuidV7Generator(Clock.systemUTC());
+  }
+
   @Bean
   public GreetingService greetingService(
       GreetingStore greetingStore,
       GreetingCache greetingCache,
-      GreetingEventPublisher eventPublisher) {
-    return new GreetingServiceImpl(greetingStore, greetingCache, eventPublisher);
+      GreetingEventPublisher eventPublisher,
+      TransactionRunner transactionRunner,
+      IdGenerator idGenerator,
+      ObjectProvider<GreetingIdFilter> greetingIdFilter,
+      MeterRegistry meterRegistry,
+      @Value("${greeting.cache.early-refresh.beta:1.0}") double earlyRefreshBeta) {
+    var service =
+        new GreetingServiceImpl(
+            greetingStore,
+            greetingCache,
+            eventPublisher,
+            transactionRunner,
+            new ProbabilisticEarlyRefresh(earlyRefreshBeta, Clock.systemUTC()),
+            idGenerator,
+            greetingIdFilter.getIfAvailable(GreetingIdFilter::disabled));
+
+    FunctionCounter.builder(
+            "greeting.loads.coalesced", service, GreetingServiceImpl::coalescedLoadCount)
+        .description("Number of greeting lookups that waited on an in-flight store load")
+        .register(meterRegistry);
+
+    return service;
   }
 }
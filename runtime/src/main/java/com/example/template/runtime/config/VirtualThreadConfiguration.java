@@ -0,0 +1,119 @@
+package com.example.template.runtime.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Virtual-thread mode, switched on with {@code spring.threads.virtual.enabled}. Spring Boot moves
+ * Tomcat and {@code @Scheduled} work onto virtual threads; this adds the gRPC server executor and
+ * reports carrier-thread pinning. The Kafka listener executor is set in {@link KafkaConfiguration}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfiguration {
+
+  private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfiguration.class);
+
+  @Bean(destroyMethod = "close")
+  public VirtualThreadExecutor grpcServerVirtualThreadExecutor() {
+    return new VirtualThreadExecutor(Thread.ofVirtual().name("grpc-server-", 0).factory());
+  }
+
+  @Bean
+  public GrpcServerConfigurer virtualThreadGrpcServerConfigurer(
+      VirtualThreadExecutor grpcServerVirtualThreadExecutor) {
+    return serverBuilder -> serverBuilder.executor(grpcServerVirtualThreadExecutor.executor);
+  }
+
+  @Bean
+  public PinnedThreadMonitor pinnedThreadMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${greeting.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+    return new PinnedThreadMonitor(meterRegistry, threshold);
+  }
+
+  /**
+   * Not a bean of type {@code Executor}, which would replace Spring Boot's task executor. Closed
+   * after the gRPC server has stopped, waiting for calls still running on it.
+   */
+  static class VirtualThreadExecutor {
+    private final ExecutorService executor;
+
+    VirtualThreadExecutor(ThreadFactory threadFactory) {
+      this.executor = Executors.newThreadPerTaskExecutor(threadFactory);
+    }
+
+    void close() {
+      executor.close();
+    }
+  }
+
+  /**
+   * Streams {@code jdk.VirtualThreadPinned} JFR events into the {@code jvm.threads.virtual.pinned}
+   * timer. A virtual thread is pinned when it blocks while holding a monitor (for example inside a
+   * {@code synchronized} block in a driver), which ties up its carrier thread.
+   */
+  static class PinnedThreadMonitor implements SmartLifecycle {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Timer pinnedTimer;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    PinnedThreadMonitor(MeterRegistry meterRegistry, Duration threshold) {
+      this.threshold = threshold;
+      this.pinnedTimer =
+          Timer.builder("jvm.threads.virtual.pinned")
+              .description("Time virtual threads spent blocked while pinned to their carrier")
+              .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+      stream = new RecordingStream();
+      stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+      stream.onEvent(PINNED_EVENT, this::onPinned);
+      stream.startAsync();
+      logger.info("Monitoring virtual thread pinning, threshold={}", threshold);
+    }
+
+    @Override
+    public synchronized void stop() {
+      if (stream != null) {
+        stream.close();
+        stream = null;
+      }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+      return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+      pinnedTimer.record(event.getDuration());
+      if (logger.isDebugEnabled() && event.getStackTrace() != null) {
+        var frames = event.getStackTrace().getFrames();
+        logger.debug(
+            "Virtual thread pinned for {} at {}",
+            event.getDuration(),
+            frames.isEmpty() ? "unknown" : frames.get(0).getMethod().getType().getName());
+      }
+    }
+  }
+}
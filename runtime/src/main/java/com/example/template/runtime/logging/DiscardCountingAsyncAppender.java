@@ -0,0 +1,49 @@
+package com.example.template.runtime.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} that counts the events it discards. Once fewer than {@code
+ * discardingThreshold} slots are left in the buffer, events at or below {@code discardLevel} are
+ * dropped. WARN and ERROR are never dropped: when the buffer is full they wait for space.
+ */
+public class DiscardCountingAsyncAppender extends AsyncAppender {
+  private final LongAdder discarded = new LongAdder();
+  private Level discardLevel = Level.INFO;
+
+  public void setDiscardLevel(String level) {
+    var parsed = Level.toLevel(level, Level.INFO);
+    if (parsed.isGreaterOrEqual(Level.WARN)) {
+      addWarn("discardLevel " + parsed + " would drop warnings; using INFO");
+      parsed = Level.INFO;
+    }
+    this.discardLevel = parsed;
+  }
+
+  @Override
+  public void start() {
+    if (isNeverBlock()) {
+      // A non-blocking offer drops whatever does not fit, warnings and errors included.
+      addWarn("neverBlock is not supported; WARN and ERROR events wait for space instead");
+      setNeverBlock(false);
+    }
+    super.start();
+  }
+
+  /** Only called once the buffer is past the discarding threshold. */
+  @Override
+  protected boolean isDiscardable(ILoggingEvent event) {
+    if (!discardLevel.isGreaterOrEqual(event.getLevel())) {
+      return false;
+    }
+    discarded.increment();
+    return true;
+  }
+
+  public long discardedCount() {
+    return discarded.sum();
+  }
+}
@@ -0,0 +1,80 @@
+package com.example.template.runtime.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.slf4j.Marker;
+
+/**
+ * Samples INFO lines from loggers under {@code loggerPrefix} once more than {@code maxPerSecond} of
+ * them have been logged in the current second: after that only every {@code sampleRate}-th one is
+ * kept until the second ends. Other levels and loggers pass through untouched.
+ *
+ * <p>As a turbo filter it runs before logback creates the event, so a sampled-out line costs no
+ * allocation. {@code maxPerSecond <= 0} turns sampling off.
+ *
+ * <p>The current second and its count share one {@code long}, so a new second starts with exactly
+ * the line that opened it and no increment from another thread is lost to the reset.
+ */
+public class InfoSamplingTurboFilter extends TurboFilter {
+  private static final int COUNT_BITS = 32;
+  private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+  private final AtomicLong window = new AtomicLong();
+  private final LongAdder sampledOut = new LongAdder();
+  private final LongSupplier clock;
+  private String loggerPrefix = "com.example.template";
+  private long maxPerSecond;
+  private long sampleRate = 10;
+
+  public InfoSamplingTurboFilter() {
+    this(System::currentTimeMillis);
+  }
+
+  InfoSamplingTurboFilter(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  public void setLoggerPrefix(String loggerPrefix) {
+    this.loggerPrefix = loggerPrefix;
+  }
+
+  public void setMaxPerSecond(long maxPerSecond) {
+    this.maxPerSecond = maxPerSecond;
+  }
+
+  public void setSampleRate(long sampleRate) {
+    this.sampleRate = Math.max(sampleRate, 1);
+  }
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    // A null format is an isInfoEnabled() check, not a line.
+    if (maxPerSecond <= 0
+        || level != Level.INFO
+        || format == null
+        || !logger.getName().startsWith(loggerPrefix)) {
+      return FilterReply.NEUTRAL;
+    }
+
+    long second = clock.getAsLong() / 1000;
+    long count =
+        window.updateAndGet(
+                state -> state >>> COUNT_BITS == second ? state + 1 : second << COUNT_BITS | 1)
+            & COUNT_MASK;
+    if (count <= maxPerSecond || count % sampleRate == 0) {
+      return FilterReply.NEUTRAL;
+    }
+    sampledOut.increment();
+    return FilterReply.DENY;
+  }
+
+  public long sampledOutCount() {
+    return sampledOut.sum();
+  }
+}
@@ -0,0 +1,7 @@
+CREATE TABLE greeting_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_id UUID NOT NULL UNIQUE,
+    greeting_id UUID NOT NULL,
+    message VARCHAR(512) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL
+);
@@ -0,0 +1 @@
+ALTER TABLE greeting_outbox ADD COLUMN claimed_until TIMESTAMPTZ;
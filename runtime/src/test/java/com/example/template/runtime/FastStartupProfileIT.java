@@ -0,0 +1,54 @@
+package com.example.template.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.template.domain.services.GreetingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/** Starts with the profile the container image ships, schema validation included. */
+@SpringBootTest
+@ActiveProfiles("fast-startup")
+@Testcontainers
+class FastStartupProfileIT {
+
+  @Container static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+  @Container
+  static GenericContainer<?> redis =
+      new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+  @Container
+  static KafkaContainer kafka =
+      new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.6.0"));
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.data.redis.host", redis::getHost);
+    registry.add("spring.data.redis.port", redis::getFirstMappedPort);
+    registry.add("spring.kafka.bootstrap-servers", kafka::getBootstrapServers);
+    registry.add("grpc.server.port", () -> "-1");
+  }
+
+  @Autowired private GreetingService greetingService;
+
+  @Test
+  void contextStartsAndServesGreetings() {
+    var greeting = greetingService.createGreeting("Fast");
+
+    assertThat(greetingService.getGreeting(greeting.id())).contains(greeting);
+  }
+}
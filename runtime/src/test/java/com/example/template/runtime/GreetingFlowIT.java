@@ -2,6 +2,9 @@ package com.example.template.runtime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -55,7 +58,44 @@ class GreetingFlowIT {
     assertThat(response.getBody().message()).isEqualTo("Hello, World!");
   }
 
+  @Test
+  void listPagesAndExportReturnEveryGreeting() {
+    var created = new ArrayList<UUID>();
+    for (var name : List.of("A", "B", "C")) {
+      created.add(
+          restTemplate
+              .postForEntity(
+                  "/api/v1/greetings", new CreateGreetingRequest(name), GreetingResponse.class)
+              .getBody()
+              .id());
+    }
+
+    var listed = new ArrayList<UUID>();
+    String url = "/api/v1/greetings?limit=2";
+    while (url != null) {
+      var page = restTemplate.getForObject(url, GreetingPageResponse.class);
+      assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+      page.items().forEach(greeting -> listed.add(greeting.id()));
+      url =
+          page.nextCursor() == null
+              ? null
+              : "/api/v1/greetings?limit=2&cursor=" + page.nextCursor();
+    }
+
+    var export = restTemplate.getForEntity("/api/v1/greetings/export", String.class);
+    var exportedLines = export.getBody().lines().toList();
+
+    // PostgreSQL orders UUIDs as unsigned bytes, which matches their string form.
+    assertThat(listed.stream().map(UUID::toString).toList()).isSorted();
+    assertThat(listed).doesNotHaveDuplicates().containsAll(created);
+    assertThat(export.getHeaders().getContentType().toString()).isEqualTo("application/x-ndjson");
+    assertThat(exportedLines).hasSameSizeAs(listed);
+    created.forEach(id -> assertThat(exportedLines).anyMatch(line -> line.contains(id.toString())));
+  }
+
   record CreateGreetingRequest(String name) {}
 
-  record GreetingResponse(java.util.UUID id, String message) {}
+  record GreetingResponse(UUID id, String message) {}
+
+  record GreetingPageResponse(List<GreetingResponse> items, UUID nextCursor) {}
 }
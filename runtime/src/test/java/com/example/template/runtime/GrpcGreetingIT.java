@@ -2,13 +2,21 @@ package com.example.template.runtime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.example.template.adapters.grpc.generated.BatchGetGreetingsRequest;
 import com.example.template.adapters.grpc.generated.CreateGreetingRequest;
+import com.example.template.adapters.grpc.generated.CreateGreetingsResponse;
 import com.example.template.adapters.grpc.generated.GetGreetingRequest;
+import com.example.template.adapters.grpc.generated.GreetingResponse;
 import com.example.template.adapters.grpc.generated.GreetingServiceGrpc;
+import com.example.template.adapters.grpc.generated.StreamGreetingsRequest;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -88,6 +96,66 @@ class GrpcGreetingIT {
     assertThat(retrieved.getMessage()).isEqualTo("Hello, Get Test!");
   }
 
+  @Test
+  void shouldBatchGetGreetingsViaGrpc() {
+    var first = stub.createGreeting(CreateGreetingRequest.newBuilder().setName("First").build());
+    var second = stub.createGreeting(CreateGreetingRequest.newBuilder().setName("Second").build());
+
+    var request =
+        BatchGetGreetingsRequest.newBuilder()
+            .addIds(second.getId())
+            .addIds(UUID.randomUUID().toString())
+            .addIds(first.getId())
+            .build();
+    var response = stub.batchGetGreetings(request);
+
+    assertThat(response.getGreetingsList()).containsExactly(second, first);
+  }
+
+  @Test
+  void shouldBulkCreateAndStreamGreetingsViaGrpc() throws Exception {
+    var result = new CompletableFuture<CreateGreetingsResponse>();
+    var requests =
+        GreetingServiceGrpc.newStub(channel)
+            .createGreetings(
+                new StreamObserver<>() {
+                  @Override
+                  public void onNext(CreateGreetingsResponse response) {
+                    result.complete(response);
+                  }
+
+                  @Override
+                  public void onError(Throwable t) {
+                    result.completeExceptionally(t);
+                  }
+
+                  @Override
+                  public void onCompleted() {}
+                });
+    for (int i = 0; i < 1_200; i++) {
+      requests.onNext(CreateGreetingRequest.newBuilder().setName("Bulk " + i).build());
+    }
+    requests.onCompleted();
+
+    assertThat(result.get(30, TimeUnit.SECONDS).getCreatedCount()).isEqualTo(1_200);
+
+    var streamed = new ArrayList<GreetingResponse>();
+    stub.streamGreetings(StreamGreetingsRequest.newBuilder().setPageSize(100).build())
+        .forEachRemaining(streamed::add);
+
+    var messages = new HashSet<String>();
+    streamed.forEach(greeting -> messages.add(greeting.getMessage()));
+    assertThat(messages).contains("Hello, Bulk 0!", "Hello, Bulk 1199!");
+    assertThat(streamed).hasSizeGreaterThanOrEqualTo(1_200);
+    assertThat(streamed.stream().map(GreetingResponse::getId).distinct()).hasSize(streamed.size());
+
+    var resumed = new ArrayList<GreetingResponse>();
+    stub.streamGreetings(
+            StreamGreetingsRequest.newBuilder().setAfterId(streamed.get(99).getId()).build())
+        .forEachRemaining(resumed::add);
+    assertThat(resumed).isEqualTo(streamed.subList(100, streamed.size()));
+  }
+
   @Test
   void shouldReturnNotFoundForNonExistentGreeting() {
     var request = GetGreetingRequest.newBuilder().setId(UUID.randomUUID().toString()).build();
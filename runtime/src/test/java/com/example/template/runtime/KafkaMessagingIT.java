@@ -2,6 +2,7 @@ package com.example.template.runtime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.example.template.adapters.codec.GreetingEventKafkaDeserializer;
 import com.example.template.domain.events.GreetingCreatedEvent;
 import com.example.template.domain.services.GreetingService;
 import java.time.Duration;
@@ -15,7 +16,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.GenericContainer;
@@ -54,9 +54,7 @@ class KafkaMessagingIT {
 
   @Test
   void shouldPublishEventWhenGreetingCreated() {
-    JsonDeserializer<GreetingCreatedEvent> deserializer =
-        new JsonDeserializer<>(GreetingCreatedEvent.class);
-    deserializer.addTrustedPackages("com.example.template.domain.events");
+    var deserializer = new GreetingEventKafkaDeserializer();
 
     Map<String, Object> consumerProps =
         Map.of(
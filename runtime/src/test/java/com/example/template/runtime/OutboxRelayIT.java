@@ -0,0 +1,190 @@
+package com.example.template.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.template.adapters.out.messaging.KafkaGreetingEventPublisher;
+import com.example.template.adapters.out.outbox.GreetingOutboxRelay;
+import com.example.template.adapters.out.outbox.JdbcGreetingOutbox;
+import com.example.template.adapters.out.outbox.OutboxEntry;
+import com.example.template.domain.events.GreetingCreatedEvent;
+import com.example.template.domain.services.GreetingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+@SpringBootTest
+@Testcontainers
+class OutboxRelayIT {
+
+  @Container static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+  @Container
+  static GenericContainer<?> redis =
+      new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+  @Container
+  static KafkaContainer kafka =
+      new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.6.0"));
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.data.redis.host", redis::getHost);
+    registry.add("spring.data.redis.port", redis::getFirstMappedPort);
+    registry.add("spring.kafka.bootstrap-servers", kafka::getBootstrapServers);
+    registry.add("grpc.server.port", () -> "-1");
+    // The tests drive the relay themselves; the scheduled run only fires once at startup.
+    registry.add("greeting.outbox.relay.poll-interval-ms", () -> "3600000");
+  }
+
+  @Autowired private GreetingService greetingService;
+  @Autowired private GreetingOutboxRelay relay;
+  @Autowired private JdbcGreetingOutbox outbox;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @BeforeEach
+  void clearOutbox() {
+    jdbcTemplate.update("DELETE FROM greeting_outbox");
+  }
+
+  @Test
+  void greetingAndEventCommitTogether() {
+    var greeting = greetingService.createGreeting("Outbox");
+
+    assertThat(countGreetings(greeting.id())).isEqualTo(1);
+    assertThat(countEvents(greeting.id())).isEqualTo(1);
+  }
+
+  @Test
+  void greetingAndEventRollBackTogether() {
+    var transaction = new TransactionTemplate(transactionManager);
+    var greeting =
+        transaction.execute(
+            status -> {
+              var created = greetingService.createGreeting("Rolled Back");
+              status.setRollbackOnly();
+              return created;
+            });
+
+    assertThat(countGreetings(greeting.id())).isZero();
+    assertThat(countEvents(greeting.id())).isZero();
+  }
+
+  @Test
+  void failedSendLeavesRowsForTheNextRun() {
+    outbox.appendAll(events(3));
+    var brokenPublisher = mock(KafkaGreetingEventPublisher.class);
+    when(brokenPublisher.sendAll(any()))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+    var brokenRelay =
+        new GreetingOutboxRelay(
+            outbox, brokenPublisher, new SimpleMeterRegistry(), 500, Duration.ofSeconds(5));
+
+    brokenRelay.relayPending();
+
+    assertThat(countPending()).isEqualTo(3);
+    assertThat(countClaimed()).isZero();
+
+    relay.relayPending();
+
+    assertThat(countPending()).isZero();
+  }
+
+  @Test
+  void concurrentRelaysNeverClaimTheSameRow() throws Exception {
+    outbox.appendAll(events(200));
+    var barrier = new CyclicBarrier(2);
+    Callable<List<Long>> claimAll =
+        () -> {
+          var claimed = new ArrayList<Long>();
+          barrier.await();
+          List<OutboxEntry> batch;
+          while (!(batch = outbox.claimNextBatch(10, Duration.ofMinutes(1))).isEmpty()) {
+            batch.forEach(entry -> claimed.add(entry.id()));
+          }
+          return claimed;
+        };
+
+    List<Long> first;
+    List<Long> second;
+    try (var executor = Executors.newFixedThreadPool(2)) {
+      var a = executor.submit(claimAll);
+      var b = executor.submit(claimAll);
+      first = a.get();
+      second = b.get();
+    }
+
+    var all = new ArrayList<>(first);
+    all.addAll(second);
+    assertThat(all).hasSize(200).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void expiredClaimIsPickedUpAgain() throws Exception {
+    outbox.appendAll(events(5));
+
+    assertThat(outbox.claimNextBatch(10, Duration.ofMillis(50))).hasSize(5);
+    assertThat(outbox.claimNextBatch(10, Duration.ofMinutes(1))).isEmpty();
+
+    Thread.sleep(200);
+
+    assertThat(outbox.claimNextBatch(10, Duration.ofMinutes(1))).hasSize(5);
+  }
+
+  private List<GreetingCreatedEvent> events(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(
+            i ->
+                new GreetingCreatedEvent(
+                    UUID.randomUUID(), UUID.randomUUID(), "Hello, " + i + "!", Instant.now()))
+        .toList();
+  }
+
+  private int countGreetings(UUID id) {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM greetings WHERE id = ?", Integer.class, id);
+  }
+
+  private int countEvents(UUID greetingId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM greeting_outbox WHERE greeting_id = ?", Integer.class, greetingId);
+  }
+
+  private int countPending() {
+    return jdbcTemplate.queryForObject("SELECT count(*) FROM greeting_outbox", Integer.class);
+  }
+
+  private int countClaimed() {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM greeting_outbox WHERE claimed_until IS NOT NULL", Integer.class);
+  }
+}
@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.example.template.domain.Greeting;
 import com.example.template.domain.ports.out.GreetingCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -43,6 +45,7 @@ class RedisCacheIT {
   }
 
   @Autowired private GreetingCache greetingCache;
+  @Autowired private MeterRegistry meterRegistry;
 
   @Test
   void shouldCacheAndRetrieveGreeting() {
@@ -85,4 +88,33 @@ class RedisCacheIT {
     assertThat(greetingCache.get(greeting1.id())).isEmpty();
     assertThat(greetingCache.get(greeting2.id())).isEmpty();
   }
+
+  @Test
+  void shouldEvictAllGreetingsAcrossScanBatches() {
+    var greetings =
+        IntStream.range(0, 1_234)
+            .mapToObj(i -> new Greeting(UUID.randomUUID(), "Greeting " + i))
+            .toList();
+    greetingCache.putAll(greetings);
+    var timer = meterRegistry.get("cache.greeting.evict.all").tag("cache", "redis").timer();
+    long runs = timer.count();
+
+    greetingCache.evictAll();
+
+    assertThat(greetingCache.getAll(greetings.stream().map(Greeting::id).toList())).isEmpty();
+    assertThat(timer.count()).isEqualTo(runs + 1);
+  }
+
+  @Test
+  void shouldKeepTombstonesUntilAGreetingIsCached() {
+    var greeting = new Greeting(UUID.randomUUID(), "Created after a miss");
+
+    greetingCache.putMissing(greeting.id());
+    var tombstone = greetingCache.getEntry(greeting.id());
+    greetingCache.put(greeting);
+    greetingCache.putMissing(greeting.id());
+
+    assertThat(tombstone).hasValueSatisfying(entry -> assertThat(entry.isMissing()).isTrue());
+    assertThat(greetingCache.get(greeting.id())).contains(greeting);
+  }
 }
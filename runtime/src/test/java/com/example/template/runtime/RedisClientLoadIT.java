@@ -0,0 +1,131 @@
+package com.example.template.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.template.domain.Greeting;
+import com.example.template.domain.ports.out.GreetingCache;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Drives the Redis {@link GreetingCache} with many concurrent callers, once with the pooled {@code
+ * RedisTemplate} client and once with the multiplexed Lettuce client, and compares throughput and
+ * p99 latency of {@code getEntry}, the lookup on the service's read path.
+ */
+@Testcontainers
+class RedisClientLoadIT {
+
+  private static final Logger logger = LoggerFactory.getLogger(RedisClientLoadIT.class);
+  private static final int GREETINGS = 1_000;
+  private static final int WARMUP_LOOKUPS = 20_000;
+  private static final int LOOKUPS = 100_000;
+  private static final int CONCURRENCY = 512;
+
+  @Container static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+  @Container
+  static GenericContainer<?> redis =
+      new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+  @Container
+  static KafkaContainer kafka =
+      new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.6.0"));
+
+  @Test
+  void multiplexedClientServesConcurrentLookups() throws Exception {
+    var pooled = runLoad("pooled");
+    var multiplexed = runLoad("multiplexed");
+
+    logger.info("client=pooled      {}", pooled);
+    logger.info("client=multiplexed {}", multiplexed);
+
+    assertThat(pooled.misses()).isZero();
+    assertThat(multiplexed.misses()).isZero();
+  }
+
+  private LoadResult runLoad(String client) throws Exception {
+    try (var context =
+        new SpringApplicationBuilder(Application.class).properties(properties(client)).run()) {
+      var cache = context.getBean(GreetingCache.class);
+      var greetings =
+          IntStream.range(0, GREETINGS)
+              .mapToObj(i -> new Greeting(UUID.randomUUID(), "Hello, " + i + "!"))
+              .toList();
+      cache.putAll(greetings);
+      var ids = greetings.stream().map(Greeting::id).toList();
+
+      burst(cache, ids, WARMUP_LOOKUPS, new AtomicInteger());
+      var misses = new AtomicInteger();
+      long start = System.nanoTime();
+      var latencies = burst(cache, ids, LOOKUPS, misses);
+      long elapsed = System.nanoTime() - start;
+
+      Arrays.sort(latencies);
+      return new LoadResult(
+          LOOKUPS * 1_000_000_000L / elapsed,
+          latencies[(int) (LOOKUPS * 0.99) - 1] / 1_000,
+          misses.get());
+    }
+  }
+
+  /** Runs {@code count} lookups with at most {@link #CONCURRENCY} in flight; returns latencies. */
+  private static long[] burst(GreetingCache cache, List<UUID> ids, int count, AtomicInteger misses)
+      throws InterruptedException {
+    var latencies = new long[count];
+    var permits = new Semaphore(CONCURRENCY);
+    try (var callers = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < count; i++) {
+        int lookup = i;
+        permits.acquire();
+        callers.submit(
+            () -> {
+              try {
+                long start = System.nanoTime();
+                var entry = cache.getEntry(ids.get(lookup % ids.size()));
+                latencies[lookup] = System.nanoTime() - start;
+                if (entry.isEmpty()) {
+                  misses.incrementAndGet();
+                }
+              } finally {
+                permits.release();
+              }
+            });
+      }
+    }
+    return latencies;
+  }
+
+  private static Map<String, Object> properties(String client) {
+    var properties = new HashMap<String, Object>();
+    properties.put("spring.datasource.url", postgres.getJdbcUrl());
+    properties.put("spring.datasource.username", postgres.getUsername());
+    properties.put("spring.datasource.password", postgres.getPassword());
+    properties.put("spring.data.redis.host", redis.getHost());
+    properties.put("spring.data.redis.port", redis.getFirstMappedPort());
+    properties.put("spring.kafka.bootstrap-servers", kafka.getBootstrapServers());
+    properties.put("server.port", 0);
+    properties.put("grpc.server.port", -1);
+    properties.put("greeting.cache.local.enabled", false);
+    properties.put("greeting.cache.redis.client", client);
+    return properties;
+  }
+
+  record LoadResult(long lookupsPerSecond, long p99Micros, int misses) {}
+}
@@ -0,0 +1,168 @@
+package com.example.template.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Runs the same burst of reads against the application with platform threads and with virtual
+ * threads. Virtual threads must serve it with fewer JVM threads at a peak and a p99 latency no
+ * worse than {@link #P99_TOLERANCE} times that of platform threads. The local cache is disabled so
+ * every request blocks on Redis.
+ */
+@Testcontainers
+class VirtualThreadLoadIT {
+
+  private static final Logger logger = LoggerFactory.getLogger(VirtualThreadLoadIT.class);
+  private static final int GREETINGS = 50;
+  private static final int WARMUP_REQUESTS = 2_000;
+  private static final int REQUESTS = 5_000;
+  private static final int CONCURRENCY = 400;
+  // Loose enough for a shared CI machine, tight enough to catch pinning or a serialized executor.
+  private static final double P99_TOLERANCE = 1.5;
+  private static final Pattern ID_PATTERN = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+
+  @Container static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+  @Container
+  static GenericContainer<?> redis =
+      new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+  @Container
+  static KafkaContainer kafka =
+      new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.6.0"));
+
+  private final HttpClient httpClient =
+      HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+  @Test
+  void virtualThreadsServeBurstWithFewerPlatformThreads() throws Exception {
+    var platform = runLoad(false);
+    var virtual = runLoad(true);
+
+    logger.info("mode=platform {}", platform);
+    logger.info("mode=virtual  {}", virtual);
+
+    assertThat(platform.failures()).isZero();
+    assertThat(virtual.failures()).isZero();
+    assertThat(virtual.peakThreads()).isLessThan(platform.peakThreads());
+    assertThat(virtual.p99Micros())
+        .isLessThanOrEqualTo((long) (platform.p99Micros() * P99_TOLERANCE));
+  }
+
+  private LoadResult runLoad(boolean virtualThreads) throws Exception {
+    try (var context =
+        new SpringApplicationBuilder(Application.class)
+            .properties(properties(virtualThreads))
+            .run()) {
+      int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+      var baseUri = "http://localhost:" + port + "/api/v1/greetings";
+      var ids = seed(baseUri);
+
+      burst(baseUri, ids, WARMUP_REQUESTS, new AtomicInteger());
+      var threads = ManagementFactory.getThreadMXBean();
+      threads.resetPeakThreadCount();
+
+      var failures = new AtomicInteger();
+      var latencies = burst(baseUri, ids, REQUESTS, failures);
+
+      var pinned = context.getBean(MeterRegistry.class).find("jvm.threads.virtual.pinned").timer();
+      Arrays.sort(latencies);
+      return new LoadResult(
+          latencies[(int) (REQUESTS * 0.99) - 1] / 1_000,
+          threads.getPeakThreadCount(),
+          failures.get(),
+          pinned == null ? 0 : pinned.count());
+    }
+  }
+
+  /** Sends {@code count} reads with at most {@link #CONCURRENCY} in flight; returns latencies. */
+  private long[] burst(String baseUri, List<String> ids, int count, AtomicInteger failures)
+      throws InterruptedException {
+    var latencies = new long[count];
+    var permits = new Semaphore(CONCURRENCY);
+    try (var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < count; i++) {
+        int request = i;
+        permits.acquire();
+        clients.submit(
+            () -> {
+              try {
+                var uri = URI.create(baseUri + "?ids=" + ids.get(request % ids.size()));
+                long start = System.nanoTime();
+                var response =
+                    httpClient.send(
+                        HttpRequest.newBuilder(uri).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                latencies[request] = System.nanoTime() - start;
+                if (response.statusCode() != 200) {
+                  failures.incrementAndGet();
+                }
+              } catch (Exception e) {
+                failures.incrementAndGet();
+              } finally {
+                permits.release();
+              }
+            });
+      }
+    }
+    return latencies;
+  }
+
+  private List<String> seed(String baseUri) throws Exception {
+    var ids = new ArrayList<String>();
+    for (int i = 0; i < GREETINGS; i++) {
+      var request =
+          HttpRequest.newBuilder(URI.create(baseUri))
+              .header("Content-Type", "application/json")
+              .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Load " + i + "\"}"))
+              .build();
+      var body = httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+      var matcher = ID_PATTERN.matcher(body);
+      assertThat(matcher.find()).as("created greeting id in %s", body).isTrue();
+      ids.add(matcher.group(1));
+    }
+    return ids;
+  }
+
+  private static Map<String, Object> properties(boolean virtualThreads) {
+    var properties = new HashMap<String, Object>();
+    properties.put("spring.datasource.url", postgres.getJdbcUrl());
+    properties.put("spring.datasource.username", postgres.getUsername());
+    properties.put("spring.datasource.password", postgres.getPassword());
+    properties.put("spring.data.redis.host", redis.getHost());
+    properties.put("spring.data.redis.port", redis.getFirstMappedPort());
+    properties.put("spring.kafka.bootstrap-servers", kafka.getBootstrapServers());
+    properties.put("server.port", 0);
+    properties.put("grpc.server.port", -1);
+    properties.put("greeting.cache.local.enabled", false);
+    properties.put("spring.threads.virtual.enabled", virtualThreads);
+    return properties;
+  }
+
+  record LoadResult(long p99Micros, int peakThreads, int failures, long pinnedEvents) {}
+}
@@ -0,0 +1,49 @@
+package com.example.template.runtime.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+
+class GrpcServerTuningConfigurationTest {
+
+  @Test
+  void BoundedExecutorRejectsBeyondMaxQueuedPlusThreads() throws Exception {
+    var meterRegistry = new SimpleMeterRegistry();
+    var executor = new GrpcServerTuningConfiguration.BoundedExecutor(1, 2, meterRegistry);
+    var release = new CountDownLatch(1);
+    var started = new CountDownLatch(1);
+    try {
+      executor
+          .executor()
+          .execute(
+              () -> {
+                started.countDown();
+                await(release);
+              });
+      started.await();
+      for (int i = 0; i < 3; i++) {
+        executor.executor().execute(() -> {});
+      }
+
+      assertThat(executor.queued()).isEqualTo(3);
+      assertThatThrownBy(() -> executor.executor().execute(() -> {}))
+          .isInstanceOf(RejectedExecutionException.class);
+      assertThat(meterRegistry.get("grpc.server.executor.rejected").counter().count()).isEqualTo(1);
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.example.template.runtime.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.template.adapters.grpc.generated.GreetingResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+class NativeHintsConfigurationTest {
+  private final RuntimeHints hints = new RuntimeHints();
+
+  NativeHintsConfigurationTest() {
+    new NativeHintsConfiguration.GreetingRuntimeHints()
+        .registerHints(hints, getClass().getClassLoader());
+  }
+
+  @Test
+  void RegistersLogbackComponentsThatExistOnTheClasspath() throws ClassNotFoundException {
+    for (var component : NativeHintsConfiguration.GreetingRuntimeHints.LOGBACK_COMPONENTS) {
+      // Hints are registered by name, so a typo only shows up here or in the native image.
+      var type = Class.forName(component, false, getClass().getClassLoader());
+
+      assertThat(
+              RuntimeHintsPredicates.reflection()
+                  .onType(type)
+                  .withMemberCategories(
+                      MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                      MemberCategory.INVOKE_PUBLIC_METHODS))
+          .as(component)
+          .accepts(hints);
+    }
+  }
+
+  @Test
+  void RegistersProtobufMessagesAndTheirBuilders() {
+    assertThat(
+            RuntimeHintsPredicates.reflection()
+                .onType(GreetingResponse.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS))
+        .accepts(hints);
+    assertThat(
+            RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of(GreetingResponse.Builder.class))
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS))
+        .accepts(hints);
+  }
+}
@@ -0,0 +1,51 @@
+package com.example.template.runtime.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.example.template.adapters.out.persistence.BufferedGreetingStore;
+import com.example.template.adapters.out.persistence.JpaGreetingStore;
+import com.example.template.adapters.out.persistence.SpringTransactionRunner;
+import com.example.template.domain.ports.out.TransactionRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class PersistenceConfigurationTest {
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner()
+          // Converts the Duration properties, as a Spring Boot application does.
+          .withInitializer(
+              context ->
+                  context
+                      .getBeanFactory()
+                      .setConversionService(ApplicationConversionService.getSharedInstance()))
+          .withUserConfiguration(PersistenceConfiguration.class)
+          .withBean(JpaGreetingStore.class, () -> mock(JpaGreetingStore.class))
+          .withBean(SpringTransactionRunner.class, () -> mock(SpringTransactionRunner.class))
+          .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+  @Test
+  void ServiceRunsCreatesInASpringTransactionByDefault() {
+    contextRunner.run(
+        context -> {
+          assertThat(context).doesNotHaveBean(BufferedGreetingStore.class);
+          assertThat(context.getBean(TransactionRunner.class))
+              .isInstanceOf(SpringTransactionRunner.class);
+        });
+  }
+
+  @Test
+  void WriteBehindLeavesTheTransactionToTheStore() {
+    contextRunner
+        .withPropertyValues("greeting.store.write-behind.enabled=true")
+        .run(
+            context -> {
+              assertThat(context).hasSingleBean(BufferedGreetingStore.class);
+              assertThat(context.getBean(TransactionRunner.class))
+                  .isNotInstanceOf(SpringTransactionRunner.class);
+            });
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.template.runtime.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class DiscardCountingAsyncAppenderTest {
+  private final LoggerContext context = new LoggerContext();
+
+  DiscardCountingAsyncAppenderTest() {
+    // Events read the MDC when they are queued.
+    context.setMDCAdapter(new LogbackMDCAdapter());
+  }
+
+  @Test
+  void DropsInfoButNeverWarnOrErrorPastTheThreshold() throws Exception {
+    var child = new BlockingAppender();
+    child.setContext(context);
+    child.start();
+    var appender = new DiscardCountingAsyncAppender();
+    appender.setContext(context);
+    appender.setQueueSize(4);
+    // Above the queue size, so the buffer is always past the threshold.
+    appender.setDiscardingThreshold(5);
+    appender.addAppender(child);
+    appender.start();
+
+    appender.doAppend(event(Level.WARN, "first"));
+    assertThat(child.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+    appender.doAppend(event(Level.INFO, "dropped"));
+    appender.doAppend(event(Level.WARN, "warn"));
+    appender.doAppend(event(Level.DEBUG, "dropped too"));
+    appender.doAppend(event(Level.ERROR, "error"));
+
+    child.release.countDown();
+    appender.stop();
+
+    assertThat(child.messages).containsExactly("first", "warn", "error");
+    assertThat(appender.discardedCount()).isEqualTo(2);
+  }
+
+  @Test
+  void DiscardLevelCannotIncludeWarnings() {
+    var appender = new DiscardCountingAsyncAppender();
+    appender.setContext(context);
+    appender.setDiscardLevel("ERROR");
+
+    assertThat(appender.isDiscardable(event(Level.WARN, "warn"))).isFalse();
+    assertThat(appender.isDiscardable(event(Level.ERROR, "error"))).isFalse();
+    assertThat(appender.isDiscardable(event(Level.INFO, "info"))).isTrue();
+  }
+
+  private LoggingEvent event(Level level, String message) {
+    return new LoggingEvent(
+        DiscardCountingAsyncAppenderTest.class.getName(),
+        context.getLogger("com.example.template.Test"),
+        level,
+        message,
+        null,
+        null);
+  }
+
+  private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Override
+    protected void append(ILoggingEvent event) {
+      blocked.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      messages.add(event.getMessage());
+    }
+  }
+}
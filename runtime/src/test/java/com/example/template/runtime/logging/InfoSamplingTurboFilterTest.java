@@ -0,0 +1,87 @@
+package com.example.template.runtime.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InfoSamplingTurboFilterTest {
+  private final AtomicLong now = new AtomicLong(1_000_000);
+  private final LoggerContext context = new LoggerContext();
+  private final Logger logger = context.getLogger("com.example.template.Test");
+  private InfoSamplingTurboFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    filter = new InfoSamplingTurboFilter(now::get);
+    filter.setMaxPerSecond(2);
+    filter.setSampleRate(3);
+  }
+
+  @Test
+  void KeepsEverySampleRateThLinePastTheLimit() {
+    assertThat(decideInfo(7))
+        .containsExactly(
+            FilterReply.NEUTRAL,
+            FilterReply.NEUTRAL,
+            FilterReply.NEUTRAL,
+            FilterReply.DENY,
+            FilterReply.DENY,
+            FilterReply.NEUTRAL,
+            FilterReply.DENY);
+    assertThat(filter.sampledOutCount()).isEqualTo(3);
+  }
+
+  @Test
+  void NextSecondStartsANewWindow() {
+    decideInfo(5);
+
+    now.addAndGet(1000);
+
+    assertThat(decideInfo(2)).containsOnly(FilterReply.NEUTRAL);
+    assertThat(decideInfo(1)).containsOnly(FilterReply.NEUTRAL);
+    assertThat(decideInfo(1)).containsOnly(FilterReply.DENY);
+  }
+
+  @Test
+  void ConcurrentLinesAreAllCountedInTheWindow() throws Exception {
+    filter.setMaxPerSecond(100);
+    filter.setSampleRate(Long.MAX_VALUE);
+    var threads = new ArrayList<Thread>();
+    for (int i = 0; i < 4; i++) {
+      threads.add(Thread.ofPlatform().start(() -> decideInfo(1000)));
+    }
+    for (var thread : threads) {
+      thread.join();
+    }
+
+    assertThat(filter.sampledOutCount()).isEqualTo(4000 - 100);
+  }
+
+  @Test
+  void OtherLevelsAndEnabledChecksPassThrough() {
+    decideInfo(10);
+
+    assertThat(filter.decide(null, logger, Level.WARN, "warn", null, null))
+        .isEqualTo(FilterReply.NEUTRAL);
+    assertThat(filter.decide(null, logger, Level.INFO, null, null, null))
+        .isEqualTo(FilterReply.NEUTRAL);
+    assertThat(filter.decide(null, context.getLogger("org.other"), Level.INFO, "info", null, null))
+        .isEqualTo(FilterReply.NEUTRAL);
+  }
+
+  private List<FilterReply> decideInfo(int lines) {
+    var replies = new ArrayList<FilterReply>();
+    for (int i = 0; i < lines; i++) {
+      replies.add(filter.decide(null, logger, Level.INFO, "line {}", new Object[] {i}, null));
+    }
+    return replies;
+  }
+}
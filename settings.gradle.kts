@@ -3,3 +3,4 @@ rootProject.name = "spring-microservice-gradle-template"
 include("domain")
 include("adapters")
 include("runtime")
+include("benchmarks")